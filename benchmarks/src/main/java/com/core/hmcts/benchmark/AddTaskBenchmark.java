@@ -0,0 +1,81 @@
+package com.core.hmcts.benchmark;
+
+import com.core.hmcts.handler.DataResponse;
+import com.core.hmcts.model.dao.TasksDao;
+import com.core.hmcts.model.dto.CreateTaskDto;
+import com.core.hmcts.model.entity.Tasks;
+import com.core.hmcts.service.TaskCache;
+import com.core.hmcts.service.TaskReadCoalescer;
+import com.core.hmcts.service.TaskServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TaskServiceImpl.addTask with the repository stubbed out, so only request mapping, due date parsing,
+ * event publication and Location URI building are measured. The parse benchmarks isolate the cost of
+ * building a DateTimeFormatter per call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AddTaskBenchmark {
+    private static final String DUE_DATE = "2030-01-01T09:00";
+    private static final DateTimeFormatter DUE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
+
+    private TaskServiceImpl taskService;
+
+    private CreateTaskDto task;
+
+    @Setup
+    public void setUp() {
+        // save() hands the entity back with an id, as the JPA repository would
+        TasksDao tasksDao = (TasksDao) Proxy.newProxyInstance(TasksDao.class.getClassLoader(), new Class<?>[] {TasksDao.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("save")) {
+                        ((Tasks) args[0]).setId("00000000-0000-0000-0000-000000000000");
+                        return args[0];
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        TaskCache taskCache = new TaskCache(10_000, Duration.ofMinutes(5), new SimpleMeterRegistry());
+        taskService = new TaskServiceImpl(new DataResponse(), tasksDao, null, null, null, taskCache, null, null, event -> { },
+                new TaskReadCoalescer(), null);
+        task = new CreateTaskDto("Benchmark task", "Created by AddTaskBenchmark", DUE_DATE);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/tasks/create");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public ResponseEntity<?> addTask() {
+        return taskService.addTask(task);
+    }
+
+    @Benchmark
+    public LocalDateTime parseDueDateWithNewFormatter() {
+        return LocalDateTime.parse(DUE_DATE, DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm"));
+    }
+
+    @Benchmark
+    public LocalDateTime parseDueDateWithSharedFormatter() {
+        return LocalDateTime.parse(DUE_DATE, DUE_DATE_FORMAT);
+    }
+}
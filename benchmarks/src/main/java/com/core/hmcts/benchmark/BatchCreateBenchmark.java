@@ -0,0 +1,79 @@
+package com.core.hmcts.benchmark;
+
+import com.core.hmcts.HmctsApplication;
+import com.core.hmcts.model.dao.TasksDao;
+import com.core.hmcts.model.dto.CreateTaskDto;
+import com.core.hmcts.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tasks created per second through TaskService.addTask one at a time against addTasks in batches of
+ * BATCH_SIZE, on a file backed SQLite database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BatchCreateBenchmark {
+    private static final int BATCH_SIZE = 500;
+
+    @Param({"single", "batch"})
+    public String mode;
+
+    private ConfigurableApplicationContext context;
+
+    private TaskService taskService;
+
+    private TasksDao tasksDao;
+
+    private List<CreateTaskDto> tasks;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path database = Path.of("target", "hmcts-jmh-batch.db");
+        Files.deleteIfExists(database);
+        context = new SpringApplicationBuilder(HmctsApplication.class)
+                .profiles("jmh")
+                .run("--spring.datasource.url=jdbc:sqlite:" + database + "?busy_timeout=10000");
+        taskService = context.getBean(TaskService.class);
+        tasksDao = context.getBean(TasksDao.class);
+        tasks = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            tasks.add(new CreateTaskDto("Task " + i, "Created by BatchCreateBenchmark " + i, "2030-01-01T09:00"));
+        }
+    }
+
+    // Keeps the table the same size for every iteration
+    @TearDown(Level.Iteration)
+    public void clear() {
+        tasksDao.deleteAllInBatch();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void create() {
+        if ("batch".equals(mode)) {
+            taskService.addTasks(tasks);
+            return;
+        }
+        for (CreateTaskDto task : tasks) {
+            taskService.addTask(task);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.core.hmcts.benchmark;
+
+import com.core.hmcts.handler.DataResponse;
+import com.core.hmcts.model.entity.Tasks;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Jackson serialisation of the DataResponse envelope around one task and around a page of tasks in
+ * each format the task endpoints negotiate, using the same ObjectMapper setup as the @EnableWebMvc
+ * message converters. Payload sizes, raw and gzipped, are reported as secondary results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    private ObjectMapper objectMapper;
+
+    private DataResponse.ResponseData single;
+
+    private byte[] singleBytes;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = switch (format) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+        single = new DataResponse().responseData(200, "Task retrieve successfully", task(0));
+        singleBytes = objectMapper.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] singleTask(PayloadSize size) throws JsonProcessingException {
+        size.record(singleBytes);
+        return objectMapper.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] taskPage(Page page, PayloadSize size) throws JsonProcessingException {
+        size.record(page.bytes);
+        return objectMapper.writeValueAsBytes(page.response);
+    }
+
+    // What a calling service pays to read the page back
+    @Benchmark
+    public JsonNode readTaskPage(Page page) throws IOException {
+        return objectMapper.readTree(page.bytes);
+    }
+
+    /**
+     * A page of tasks; only the page benchmarks use it, so only they are run once per page size.
+     */
+    @State(Scope.Benchmark)
+    public static class Page {
+        @Param({"20", "100"})
+        public int pageSize;
+
+        private DataResponse.ResponseData response;
+
+        private byte[] bytes;
+
+        @Setup
+        public void setUp(ResponseSerializationBenchmark benchmark) throws JsonProcessingException {
+            List<Tasks> tasks = new ArrayList<>(pageSize);
+            for (int i = 0; i < pageSize; i++) {
+                tasks.add(task(i));
+            }
+            response = new DataResponse().responseData(200, "Tasks retrieve successfully", tasks);
+            bytes = benchmark.objectMapper.writeValueAsBytes(response);
+        }
+    }
+
+    /**
+     * Bytes on the wire per response, reset every iteration so JMH reports the size rather than a total.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long payloadBytes;
+
+        public long gzippedBytes;
+
+        private byte[] measured;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            measured = null;
+            payloadBytes = 0;
+            gzippedBytes = 0;
+        }
+
+        void record(byte[] payload) {
+            if (measured != payload) {
+                measured = payload;
+                payloadBytes = payload.length;
+                gzippedBytes = gzip(payload).length;
+            }
+        }
+    }
+
+    private static byte[] gzip(byte[] payload) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static Tasks task(int i) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        Tasks task = new Tasks();
+        task.setId(UUID.randomUUID().toString());
+        task.setTitle("Task " + i);
+        task.setDescription("Serialised by ResponseSerializationBenchmark " + i);
+        task.setStatus(Tasks.TaskStatus.PENDING);
+        task.setDueDate(LocalDateTime.of(2030, 1, 1, 9, 0));
+        task.setCreatedAt(now);
+        task.setUpdatedAt(now);
+        return task;
+    }
+}
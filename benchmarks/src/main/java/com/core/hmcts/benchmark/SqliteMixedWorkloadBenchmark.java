@@ -0,0 +1,105 @@
+package com.core.hmcts.benchmark;
+
+import com.core.hmcts.HmctsApplication;
+import com.core.hmcts.model.dao.TasksDao;
+import com.core.hmcts.model.dto.CreateTaskDto;
+import com.core.hmcts.model.dto.UpdateTaskDto;
+import com.core.hmcts.model.entity.Tasks;
+import com.core.hmcts.service.TaskCache;
+import com.core.hmcts.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Six readers and two writers against one SQLite file. "default" is the jmh profile on its own: one
+ * shared pool in rollback-journal mode, where writers retry on SQLITE_BUSY. "sqlite" adds the sqlite
+ * profile: WAL, a reader pool and the group-committing single writer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SqliteMixedWorkloadBenchmark {
+    private static final int SEEDED_TASKS = 1_000;
+    private static final Tasks.TaskStatus[] STATUSES = Tasks.TaskStatus.values();
+
+    @Param({"default", "sqlite"})
+    public String mode;
+
+    private ConfigurableApplicationContext context;
+
+    private TaskService taskService;
+
+    private TaskCache taskCache;
+
+    private List<String> ids;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path database = Path.of("target", "hmcts-jmh-" + mode + ".db");
+        for (String suffix : List.of("", "-wal", "-shm")) {
+            Files.deleteIfExists(Path.of(database + suffix));
+        }
+        String url = "jdbc:sqlite:" + database + "?busy_timeout=10000"
+                + ("sqlite".equals(mode) ? "&journal_mode=WAL&synchronous=NORMAL&temp_store=MEMORY&cache_size=-65536" : "");
+        String[] profiles = "sqlite".equals(mode) ? new String[]{"jmh", "sqlite"} : new String[]{"jmh"};
+        context = new SpringApplicationBuilder(HmctsApplication.class)
+                .profiles(profiles)
+                .run("--spring.datasource.url=" + url, "--spring.jpa.hibernate.ddl-auto=create-drop");
+        taskService = context.getBean(TaskService.class);
+        taskCache = context.getBean(TaskCache.class);
+
+        List<Tasks> tasks = new ArrayList<>(SEEDED_TASKS);
+        for (int i = 0; i < SEEDED_TASKS; i++) {
+            Tasks task = new Tasks();
+            task.setTitle("Task " + i);
+            task.setDescription("Seeded by SqliteMixedWorkloadBenchmark " + i);
+            task.setDueDate(LocalDateTime.of(2030, 1, 1, 9, 0).plusHours(i));
+            tasks.add(task);
+        }
+        ids = context.getBean(TasksDao.class).saveAll(tasks).stream().map(Tasks::getId).toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private String randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    // Bypasses the cache so every read reaches the database
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(6)
+    public ResponseEntity<?> read() {
+        String id = randomId();
+        taskCache.invalidate(id);
+        return taskService.getTask(id);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public ResponseEntity<?> write() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextBoolean()) {
+            return taskService.addTask(new CreateTaskDto("Benchmark task", "Mixed workload", "2030-06-01T09:00"));
+        }
+        return taskService.updateTask(randomId(), new UpdateTaskDto(STATUSES[random.nextInt(STATUSES.length)]));
+    }
+}
@@ -0,0 +1,83 @@
+package com.core.hmcts.benchmark;
+
+import com.core.hmcts.model.entity.UuidBinaryType;
+import com.core.hmcts.model.entity.UuidV7Generator;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert throughput of random v4 ids in a VARCHAR(255) primary key against v7 ids in BINARY(16).
+ * The table keeps growing across iterations, so index page splits show up as it gets larger.
+ * Defaults to a local SQLite file; pass -Djdbc.url=jdbc:mysql://... (and jdbc.user, jdbc.password)
+ * through jmh.args as -jvmArgs to measure InnoDB.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class TaskIdLayoutBenchmark {
+    private static final int ROWS_PER_BATCH = 500;
+
+    @Param({"v4-varchar", "v7-binary"})
+    public String layout;
+
+    private Connection connection;
+
+    private PreparedStatement insert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("jdbc.url", "jdbc:sqlite:target/hmcts-id-layout.db"),
+                System.getProperty("jdbc.user", ""),
+                System.getProperty("jdbc.password", ""));
+        connection.setAutoCommit(false);
+        String idColumn = binary() ? "BINARY(16)" : "VARCHAR(255)";
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_task_ids");
+            statement.execute("CREATE TABLE bench_task_ids (id " + idColumn + " NOT NULL PRIMARY KEY, "
+                    + "title VARCHAR(255) NOT NULL, created_at TIMESTAMP NOT NULL)");
+        }
+        connection.commit();
+        insert = connection.prepareStatement("INSERT INTO bench_task_ids (id, title, created_at) VALUES (?, ?, ?)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        insert.close();
+        connection.close();
+    }
+
+    private boolean binary() {
+        return layout.equals("v7-binary");
+    }
+
+    // One operation is a committed batch of ROWS_PER_BATCH rows
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_BATCH)
+    public void insertBatch() throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (int i = 0; i < ROWS_PER_BATCH; i++) {
+            if (binary()) {
+                insert.setBytes(1, UuidBinaryType.toBytes(UuidV7Generator.nextId()));
+            } else {
+                insert.setString(1, UUID.randomUUID().toString());
+            }
+            insert.setString(2, "Benchmark task");
+            insert.setTimestamp(3, now);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+}
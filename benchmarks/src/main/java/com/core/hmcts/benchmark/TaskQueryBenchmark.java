@@ -0,0 +1,85 @@
+package com.core.hmcts.benchmark;
+
+import com.core.hmcts.HmctsApplication;
+import com.core.hmcts.model.dao.TasksDao;
+import com.core.hmcts.model.entity.Tasks;
+import com.core.hmcts.service.TaskCache;
+import com.core.hmcts.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * getTask and getTasks through the full service and repository stack against the embedded SQLite
+ * database configured in application-jmh.properties.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskQueryBenchmark {
+    private static final int SEEDED_TASKS = 1_000;
+
+    private ConfigurableApplicationContext context;
+
+    private TaskService taskService;
+
+    private TaskCache taskCache;
+
+    private List<String> ids;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(HmctsApplication.class).profiles("jmh").run();
+        taskService = context.getBean(TaskService.class);
+        taskCache = context.getBean(TaskCache.class);
+
+        List<Tasks> tasks = new ArrayList<>(SEEDED_TASKS);
+        for (int i = 0; i < SEEDED_TASKS; i++) {
+            Tasks task = new Tasks();
+            task.setTitle("Task " + i);
+            task.setDescription("Seeded by TaskQueryBenchmark " + i);
+            task.setDueDate(LocalDateTime.of(2030, 1, 1, 9, 0).plusHours(i));
+            tasks.add(task);
+        }
+        ids = context.getBean(TasksDao.class).saveAll(tasks).stream().map(Tasks::getId).toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private String nextId() {
+        next = (next + 1) % ids.size();
+        return ids.get(next);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> getTaskCached() {
+        return taskService.getTask(nextId());
+    }
+
+    @Benchmark
+    public ResponseEntity<?> getTaskUncached() {
+        String id = nextId();
+        taskCache.invalidate(id);
+        return taskService.getTask(id);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> getTasksPage() {
+        return taskService.getTasks(PageRequest.of(next++ % (SEEDED_TASKS / 20), 20));
+    }
+}
@@ -0,0 +1,32 @@
+package com.core.hmcts.config;
+
+import com.core.hmcts.filter.AllocationTrackingFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(name = "tasks.allocation.tracking-enabled", havingValue = "true", matchIfMissing = true)
+public class AllocationTrackingConfig {
+
+    // Budgets are keyed by controller method name, e.g. tasks.allocation.budgets[addTask]=256KB
+    @Bean
+    public FilterRegistrationBean<AllocationTrackingFilter> allocationTrackingFilter(MeterRegistry meterRegistry,
+                                                                                     Environment environment) {
+        Map<String, DataSize> budgets = Binder.get(environment)
+                .bind("tasks.allocation.budgets", Bindable.mapOf(String.class, DataSize.class))
+                .orElse(Map.of());
+        FilterRegistrationBean<AllocationTrackingFilter> registration =
+                new FilterRegistrationBean<>(new AllocationTrackingFilter(meterRegistry, budgets));
+        registration.addUrlPatterns("/tasks/*");
+        return registration;
+    }
+}
@@ -0,0 +1,21 @@
+package com.core.hmcts.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+@Configuration
+public class AsyncConfig implements WebMvcConfigurer {
+
+    @Value("${tasks.async.request-timeout:30m}")
+    private Duration requestTimeout;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        // Streaming exports of the whole table outlive the servlet container's default async timeout
+        configurer.setDefaultTimeout(requestTimeout.toMillis());
+    }
+}
@@ -0,0 +1,48 @@
+package com.core.hmcts.config;
+
+import com.core.hmcts.filter.AdaptiveConcurrencyLimit;
+import com.core.hmcts.filter.AdaptiveConcurrencyLimitFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@ConditionalOnProperty(name = "tasks.limiter.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<AdaptiveConcurrencyLimitFilter> adaptiveConcurrencyLimitFilter(
+            @Value("${tasks.limiter.initial-limit:20}") int initialLimit,
+            @Value("${tasks.limiter.min-limit:4}") int minLimit,
+            @Value("${tasks.limiter.max-limit:200}") int maxLimit,
+            @Value("${tasks.limiter.read-share:0.8}") double readShare,
+            @Value("${tasks.limiter.latency-tolerance:1.5}") double latencyTolerance,
+            MeterRegistry meterRegistry) {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, readShare, latencyTolerance);
+        AdaptiveConcurrencyLimitFilter filter = new AdaptiveConcurrencyLimitFilter(limit);
+        Gauge.builder("tasks.limiter.limit", limit, AdaptiveConcurrencyLimit::limit)
+                .description("Concurrent task requests currently admitted")
+                .register(meterRegistry);
+        Gauge.builder("tasks.limiter.inflight", limit, AdaptiveConcurrencyLimit::inflight)
+                .register(meterRegistry);
+        FunctionCounter.builder("tasks.limiter.rejected", filter, AdaptiveConcurrencyLimitFilter::rejectedReads)
+                .tag("priority", "read")
+                .description("Task requests answered 503 by the concurrency limiter")
+                .register(meterRegistry);
+        FunctionCounter.builder("tasks.limiter.rejected", filter, AdaptiveConcurrencyLimitFilter::rejectedWrites)
+                .tag("priority", "write")
+                .description("Task requests answered 503 by the concurrency limiter")
+                .register(meterRegistry);
+        FilterRegistrationBean<AdaptiveConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/tasks/*");
+        // Ahead of the other task filters so a rejected request does no further work
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+        return registration;
+    }
+}
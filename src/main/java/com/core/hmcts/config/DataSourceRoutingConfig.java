@@ -0,0 +1,83 @@
+package com.core.hmcts.config;
+
+import com.core.hmcts.filter.ReadYourWritesFilter;
+import com.core.hmcts.model.dao.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Active with the "replicas" profile: writes go to spring.datasource and read-only transactions to
+ * the pools listed under tasks.datasource.replicas. The "sqlite" profile uses the same split for a
+ * single-connection writer pool and a reader pool on one database file.
+ */
+@Configuration
+@Profile({"replicas", "sqlite"})
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(ReadWriteRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                                 Environment environment,
+                                                                 @Value("${tasks.datasource.replica-pool-size:10}") int replicaPoolSize,
+                                                                 @Value("${tasks.datasource.replica-validation-timeout:1s}") Duration validationTimeout) throws Exception {
+        Binder binder = Binder.get(environment);
+        List<DataSourceProperties> replicaProperties = binder
+                .bind("tasks.datasource.replicas", Bindable.listOf(DataSourceProperties.class))
+                .orElse(List.of());
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaProperties.size(); i++) {
+            DataSourceProperties properties = replicaProperties.get(i);
+            properties.afterPropertiesSet();
+            HikariDataSource replica = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            replica.setPoolName("replica-" + i);
+            replica.setMaximumPoolSize(replicaPoolSize);
+            // Start even when a replica is down; the health check ejects it
+            replica.setInitializationFailTimeout(-1);
+            binder.bind("tasks.datasource.replicas[" + i + "].hikari", Bindable.ofInstance(replica));
+            replicas.put(replica.getPoolName(), replica);
+        }
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas, validationTimeout);
+    }
+
+    // JPA and Spring Data see this one; the routing decision is made when the first statement runs
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${tasks.datasource.read-your-writes-window:5s}") Duration window) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(new ReadYourWritesFilter(window));
+        registration.addUrlPatterns("/tasks/*");
+        // Readers that share the writer's database never lag, so there is nothing to pin
+        registration.setEnabled(!window.isZero());
+        return registration;
+    }
+}
@@ -0,0 +1,51 @@
+package com.core.hmcts.config;
+
+import com.core.hmcts.filter.QueryCountFilter;
+import com.core.hmcts.model.dao.QueryCounter;
+import com.core.hmcts.model.dao.SlowQueryListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import java.time.Duration;
+
+@Configuration
+public class MetricsConfig {
+
+    // Leaves any inspector configured through spring.jpa.properties in place
+    @Bean
+    public HibernatePropertiesCustomizer queryCounterCustomizer() {
+        return hibernateProperties -> hibernateProperties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, new QueryCounter());
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<QueryCountFilter> registration = new FilterRegistrationBean<>(new QueryCountFilter(meterRegistry));
+        registration.addUrlPatterns("/tasks/*");
+        return registration;
+    }
+
+    // Static so it can post-process the repository factory beans without initialising this configuration early
+    @Bean
+    public static BeanPostProcessor slowQueryListenerPostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                                                   Environment environment) {
+        Duration threshold = environment.getProperty("tasks.metrics.slow-query-threshold", Duration.class, Duration.ofMillis(100));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+                    repositoryFactoryBean.addRepositoryFactoryCustomizer(factory ->
+                            factory.addInvocationListener(new SlowQueryListener(meterRegistry.getObject(), threshold)));
+                }
+                return bean;
+            }
+        };
+    }
+}
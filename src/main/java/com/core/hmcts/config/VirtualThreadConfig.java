@@ -0,0 +1,31 @@
+package com.core.hmcts.config;
+
+import com.core.hmcts.filter.ConnectionPoolLimitFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// Active with the "virtual" profile, where Tomcat and Spring's executors run on virtual threads
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public FilterRegistrationBean<ConnectionPoolLimitFilter> connectionPoolLimitFilter(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${tasks.virtual-threads.permit-timeout:2s}") Duration permitTimeout,
+            MeterRegistry meterRegistry) {
+        ConnectionPoolLimitFilter filter = new ConnectionPoolLimitFilter(maximumPoolSize, permitTimeout);
+        Gauge.builder("tasks.connection.permits.available", filter, ConnectionPoolLimitFilter::availablePermits)
+                .register(meterRegistry);
+        FilterRegistrationBean<ConnectionPoolLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/tasks/*");
+        return registration;
+    }
+}
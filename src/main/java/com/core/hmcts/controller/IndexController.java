@@ -1,10 +1,12 @@
 package com.core.hmcts.controller;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 
 @Controller
+@Profile("!reactive")
 public class IndexController {
     @RequestMapping(value = "/documentation", method= RequestMethod.GET)
     public String requestMethodName() {
@@ -0,0 +1,225 @@
+package com.core.hmcts.controller;
+
+import com.core.hmcts.model.dto.CreateTaskDto;
+import com.core.hmcts.model.dto.UpdateTaskDto;
+import com.core.hmcts.model.entity.Tasks;
+import com.core.hmcts.service.ReactiveTaskService;
+import com.core.hmcts.service.TaskExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The /tasks contract served by WebFlux when the reactive profile is active. Batch creation, cursor
+ * scrolling, filtered listing and bulk status updates remain servlet-only.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("tasks/")
+public class ReactiveTaskController {
+
+    private final ReactiveTaskService taskService;
+    public ReactiveTaskController(ReactiveTaskService taskService) {
+        this.taskService = taskService;
+    }
+
+    @Operation(
+            summary = "Create Task",
+            description = "This endpoint allows a user to create a task",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "201",
+                            description = "Task Created Successfully",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = Tasks.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Something went wrong"
+                    )
+            }
+    )
+    @PostMapping(value = "create", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<?>> addTask(@RequestBody CreateTaskDto task, ServerWebExchange exchange) {
+        return taskService.addTask(task, exchange.getRequest().getURI());
+    }
+
+
+    @Operation(
+            summary = "Get Task",
+            description = "This endpoint allows a user to get task using the task id",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Task retrieved successfully",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = Tasks.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "304",
+                            description = "Task unchanged since the ETag sent in If-None-Match"
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Task not found"
+                    )
+            }
+    )
+    @GetMapping("{id}")
+    public Mono<ResponseEntity<?>> getTaskById(@PathVariable("id") String id, ServerWebExchange exchange) {
+        return notModifiedOrBody(taskService.getTask(id), exchange);
+    }
+
+
+    @Operation(
+            summary = "Get all Tasks",
+            description = "This endpoint return a page of tasks",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Tasks retrieved successfully",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = Tasks.class)))
+                    ),
+                    @ApiResponse(
+                            responseCode = "304",
+                            description = "Page unchanged since the ETag sent in If-None-Match"
+                    )
+            }
+    )
+    @GetMapping
+    public Mono<ResponseEntity<?>> getAllTasks(Pageable pageable, ServerWebExchange exchange) {
+        return notModifiedOrBody(taskService.getTasks(pageable), exchange);
+    }
+
+
+    @Operation(
+            summary = "Search Tasks",
+            description = "This endpoint ranks tasks by how well their title and description match the query words",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Tasks retrieved successfully"
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Search query is required"
+                    )
+            }
+    )
+    @GetMapping("search")
+    public Mono<ResponseEntity<?>> searchTasks(@RequestParam(value = "q", required = false) String query,
+                                               @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return taskService.searchTasks(query, limit);
+    }
+
+
+    @Operation(
+            summary = "Task Statistics",
+            description = "This endpoint returns task counts per status, the overdue count and a histogram of due dates by day",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Task statistics retrieved successfully"
+                    )
+            }
+    )
+    @GetMapping("stats")
+    public Mono<ResponseEntity<?>> getStatistics() {
+        return taskService.getStatistics();
+    }
+
+
+    @Operation(
+            summary = "Export Tasks",
+            description = "This endpoint streams every task as NDJSON or CSV without paging. Rows are read from the " +
+                    "database only as fast as the client consumes them",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Tasks exported successfully",
+                            content = {
+                                    @Content(mediaType = "application/x-ndjson"),
+                                    @Content(mediaType = "text/csv")
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Unsupported export format"
+                    )
+            }
+    )
+    @GetMapping("export")
+    public ResponseEntity<Flux<?>> exportTasks(@RequestParam(value = "format", defaultValue = "ndjson") String format) {
+        TaskExportService.Format exportFormat = TaskExportService.Format.fromParameter(format)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported export format: " + format));
+        Flux<?> body = exportFormat == TaskExportService.Format.CSV ? taskService.streamTasksAsCsv() : taskService.streamTasks();
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+
+    @Operation(
+            summary = "Update Task",
+            description = "This endpoint allows a user to update task status",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Task updated successfully",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = Tasks.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Task not found"
+                    )
+            }
+    )
+    @PutMapping(value = "{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<?>> updateTask(@PathVariable("id") String id, @RequestBody UpdateTaskDto task) {
+        return taskService.updateTask(id, task);
+    }
+
+
+    @Operation(
+            summary = "Delete Task",
+            description = "This endpoint allows a user to delete task",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "204",
+                            description = "Task deleted successfully"
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Task not found"
+                    )
+            }
+    )
+    @DeleteMapping("{id}")
+    public Mono<ResponseEntity<?>> deleteTask(@PathVariable("id") String id) {
+        return taskService.deleteTask(id);
+    }
+
+    // An empty result tells WebFlux the 304 set by checkNotModified is the whole response
+    private static Mono<ResponseEntity<?>> notModifiedOrBody(Mono<ResponseEntity<?>> response, ServerWebExchange exchange) {
+        return response.filter(entity -> {
+            String etag = entity.getHeaders().getETag();
+            return etag == null || !exchange.checkNotModified(etag);
+        });
+    }
+}
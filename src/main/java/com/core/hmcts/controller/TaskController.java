@@ -1,26 +1,56 @@
 package com.core.hmcts.controller;
 
+import com.core.hmcts.model.dto.BatchItemResultDto;
+import com.core.hmcts.model.dto.BulkStatusUpdateDto;
+import com.core.hmcts.model.dto.BulkUpdateResultDto;
 import com.core.hmcts.model.dto.CreateTaskDto;
+import com.core.hmcts.model.dto.CursorPageDto;
+import com.core.hmcts.model.dto.TaskChangeDto;
+import com.core.hmcts.model.dto.TaskFilterDto;
+import com.core.hmcts.model.dto.TaskSearchHitDto;
+import com.core.hmcts.model.dto.TaskStatisticsDto;
 import com.core.hmcts.model.dto.UpdateTaskDto;
 import com.core.hmcts.model.entity.Tasks;
+import com.core.hmcts.model.entity.Tasks.TaskStatus;
+import com.core.hmcts.service.TaskChangeFeed;
+import com.core.hmcts.service.TaskExportService;
 import com.core.hmcts.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.Set;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("tasks/")
 public class TaskController {
+    // Request and response bodies may also be CBOR or Smile; Spring has no constant for the Smile media type
+    static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
 
     private final TaskService taskService;
-    public TaskController(TaskService taskService) {
+    private final TaskExportService taskExportService;
+    private final TaskChangeFeed taskChangeFeed;
+    public TaskController(TaskService taskService, TaskExportService taskExportService, TaskChangeFeed taskChangeFeed) {
         this.taskService = taskService;
+        this.taskExportService = taskExportService;
+        this.taskChangeFeed = taskChangeFeed;
     }
 
     @Operation(
@@ -44,15 +74,51 @@ public class TaskController {
                         )
                 }
         )
-    @PostMapping(value = "create", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PostMapping(value = "create", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
     public ResponseEntity<?> addTask(@RequestBody CreateTaskDto task) {
             return taskService.addTask(task);
     }
 
 
+    @Operation(
+            summary = "Create Tasks in Batch",
+            description = "This endpoint allows a user to create up to 1000 tasks in one request. Each item is validated " +
+                    "on its own and the response reports the outcome of every item in request order",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = CreateTaskDto.class))
+                    )
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "201",
+                            description = "All tasks created successfully",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = BatchItemResultDto.class)))
+                    ),
+                    @ApiResponse(
+                            responseCode = "207",
+                            description = "Some tasks were rejected",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = BatchItemResultDto.class)))
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Empty or oversized batch"
+                    )
+            }
+    )
+    @PostMapping(value = "batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public ResponseEntity<?> addTasks(@RequestBody List<CreateTaskDto> tasks) {
+        return taskService.addTasks(tasks);
+    }
+
+
     @Operation(
             summary = "Get Task",
-            description = "This endpoint allows a user to get task using the task id",
+            description = "This endpoint allows a user to get task using the task id. Pass fields, e.g. " +
+                    "fields=id,title,status,dueDate, to receive only those properties",
             requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     content = @Content(
                             mediaType = MediaType.APPLICATION_JSON_VALUE
@@ -65,6 +131,10 @@ public class TaskController {
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                                     schema = @Schema(implementation = Tasks.class))
                     ),
+                    @ApiResponse(
+                            responseCode = "304",
+                            description = "Task unchanged since the ETag sent in If-None-Match"
+                    ),
                     @ApiResponse(
                             responseCode = "404",
                             description = "Task not found"
@@ -72,13 +142,26 @@ public class TaskController {
             }
     )
     @GetMapping("{id}")
-    public ResponseEntity<?> getTaskById(@PathVariable("id") String id) {
+    public ResponseEntity<?> getTaskById(@PathVariable("id") String id,
+                                         @RequestParam(value = "fields", required = false) String fields,
+                                         WebRequest request) {
+        if (fields != null) {
+            return taskService.getTask(id, fields);
+        }
+        // Revalidate from the version column alone so an unchanged task is never loaded or serialised
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            String etag = taskService.getTaskEtag(id);
+            if (etag != null && request.checkNotModified(etag)) {
+                return null;
+            }
+        }
         return taskService.getTask(id);
     }
 
     @Operation(
             summary = "Get all Tasks",
-            description = "This endpoint return all tasks",
+            description = "This endpoint return all tasks, optionally filtered by status, due date and created/updated ranges. " +
+                    "Pass fields, e.g. fields=id,title,status,dueDate, to receive only those properties",
             requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     content = @Content(
                             mediaType = MediaType.APPLICATION_JSON_VALUE
@@ -91,15 +174,151 @@ public class TaskController {
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                                     array = @ArraySchema(schema = @Schema(implementation = Tasks.class))
                             )
+                    ),
+                    @ApiResponse(
+                            responseCode = "304",
+                            description = "Page unchanged since the ETag sent in If-None-Match"
                     )
             }
     )
     @GetMapping
-    public ResponseEntity<?> getAllTasks(Pageable pageable) {
+    public ResponseEntity<?> getAllTasks(Pageable pageable, @ParameterObject TaskFilterDto filter,
+                                         @RequestParam(value = "fields", required = false) String fields,
+                                         WebRequest request) {
+        if (fields != null) {
+            return taskService.getTasks(filter, pageable, fields);
+        }
+        if (filter.hasCriteria()) {
+            return taskService.getTasks(filter, pageable);
+        }
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(taskService.getTasksEtag(pageable))) {
+            return null;
+        }
         return taskService.getTasks(pageable);
     }
 
 
+    @Operation(
+            summary = "Scroll Tasks",
+            description = "This endpoint returns tasks ordered by creation time using opaque cursors instead of page numbers. " +
+                    "Pass nextCursor as after, or prevCursor as before, to move between pages",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Tasks retrieved successfully",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = CursorPageDto.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid cursor"
+                    )
+            }
+    )
+    @GetMapping("scroll")
+    public ResponseEntity<?> scrollTasks(@RequestParam(value = "after", required = false) String after,
+                                         @RequestParam(value = "before", required = false) String before,
+                                         @RequestParam(value = "size", defaultValue = "20") int size) {
+        return taskService.scrollTasks(after, before, size);
+    }
+
+
+    @Operation(
+            summary = "Search Tasks",
+            description = "This endpoint ranks tasks by how well their title and description match the query words. " +
+                    "It is served from an in-memory index and does not query the database",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Tasks retrieved successfully",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = TaskSearchHitDto.class)))
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Search query is required"
+                    )
+            }
+    )
+    @GetMapping("search")
+    public ResponseEntity<?> searchTasks(@RequestParam(value = "q", required = false) String query,
+                                         @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return taskService.searchTasks(query, limit);
+    }
+
+
+    @Operation(
+            summary = "Task Statistics",
+            description = "This endpoint returns task counts per status, the overdue count and a histogram of due dates by day. " +
+                    "The numbers come from in-memory counters rather than aggregate queries",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Task statistics retrieved successfully",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = TaskStatisticsDto.class))
+                    )
+            }
+    )
+    @GetMapping("stats")
+    public ResponseEntity<?> getStatistics() {
+        return taskService.getStatistics();
+    }
+
+
+    @Operation(
+            summary = "Export Tasks",
+            description = "This endpoint streams every task as NDJSON or CSV without paging",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Tasks exported successfully",
+                            content = {
+                                    @Content(mediaType = "application/x-ndjson"),
+                                    @Content(mediaType = "text/csv")
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Unsupported export format"
+                    )
+            }
+    )
+    @GetMapping("export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(value = "format", defaultValue = "ndjson") String format) {
+        TaskExportService.Format exportFormat = TaskExportService.Format.fromParameter(format)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported export format: " + format));
+        return taskExportService.exportTasks(exportFormat);
+    }
+
+
+    @Operation(
+            summary = "Task Change Feed",
+            description = "This endpoint streams task created, updated and deleted events as Server-Sent Events, optionally " +
+                    "filtered by status and task id. Reconnecting with Last-Event-ID resumes from the replay buffer; " +
+                    "a reset event means changes were missed and the task list should be reloaded",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Feed opened",
+                            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                                    schema = @Schema(implementation = TaskChangeDto.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "503",
+                            description = "Too many open feeds"
+                    )
+            }
+    )
+    @GetMapping(value = "feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter taskFeed(@RequestParam(value = "status", required = false) Set<TaskStatus> statuses,
+                               @RequestParam(value = "ids", required = false) Set<String> ids,
+                               @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return taskChangeFeed.subscribe(statuses == null ? Set.of() : statuses, ids == null ? Set.of() : ids, lastEventId);
+    }
+
+
     @Operation(
             summary = "Update Tasks Status",
             description = "This endpoint all user the update task status",
@@ -118,12 +337,41 @@ public class TaskController {
                     )
             }
     )
-    @PutMapping(value = "{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PutMapping(value = "{id}", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
     public ResponseEntity<?> updateTask(@PathVariable("id") String id, @RequestBody UpdateTaskDto task) {
         return taskService.updateTask(id, task);
     }
 
 
+    @Operation(
+            summary = "Bulk Update Tasks Status",
+            description = "This endpoint moves many tasks to a new status in a few set-based updates. Select tasks " +
+                    "either by ids or by a filter on current status and due date range",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = BulkStatusUpdateDto.class)
+                    )
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Tasks updated successfully",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = BulkUpdateResultDto.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Missing status, missing selection or too many tasks"
+                    )
+            }
+    )
+    @PutMapping(value = "bulk/status", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public ResponseEntity<?> bulkUpdateStatus(@RequestBody BulkStatusUpdateDto bulkStatusUpdateDto) {
+        return taskService.bulkUpdateStatus(bulkStatusUpdateDto);
+    }
+
+
     @Operation(
             summary = "Delete task",
             description = "This endpoint allow user to remove/delete task",
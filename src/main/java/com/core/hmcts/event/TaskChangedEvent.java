@@ -0,0 +1,28 @@
+package com.core.hmcts.event;
+
+import com.core.hmcts.model.entity.Tasks;
+
+public record TaskChangedEvent(Type type, Tasks task, Tasks.TaskStatus previousStatus) {
+
+    public static TaskChangedEvent created(Tasks task) {
+        return new TaskChangedEvent(Type.CREATED, task, null);
+    }
+
+    public static TaskChangedEvent updated(Tasks task, Tasks.TaskStatus previousStatus) {
+        return new TaskChangedEvent(Type.UPDATED, task, previousStatus);
+    }
+
+    public static TaskChangedEvent deleted(Tasks task) {
+        return new TaskChangedEvent(Type.DELETED, task, task.getStatus());
+    }
+
+    public String id() {
+        return task.getId();
+    }
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -0,0 +1,7 @@
+package com.core.hmcts.event;
+
+import java.time.LocalDateTime;
+
+// Published by TaskDueTimer when an open task passes its due date
+public record TaskOverdueEvent(String id, LocalDateTime dueDate) {
+}
@@ -0,0 +1,7 @@
+package com.core.hmcts.event;
+
+import java.util.List;
+
+// Published by TaskArchiver after completed tasks have moved from tbl_tasks to tbl_tasks_archive
+public record TasksArchivedEvent(List<String> ids) {
+}
@@ -0,0 +1,9 @@
+package com.core.hmcts.event;
+
+import com.core.hmcts.model.entity.Tasks;
+
+import java.util.List;
+
+// Published by set-based updates, which change rows without loading them
+public record TasksBulkUpdatedEvent(List<String> ids, Tasks.TaskStatus status) {
+}
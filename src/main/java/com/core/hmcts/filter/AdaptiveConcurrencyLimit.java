@@ -0,0 +1,115 @@
+package com.core.hmcts.filter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that follows observed latency, in the style of the gradient limiters: while
+ * recent latency stays within tolerance of the long-run baseline the limit grows by roughly its
+ * square root per window, and as latency climbs above the baseline it shrinks in proportion. Writes
+ * may use the whole limit; reads only readShare of it, so reads are shed first and writes keep
+ * headroom when the database saturates.
+ * <p>
+ * Samples are averaged over windows of WINDOW_SIZE requests before the limit moves, and windows in
+ * which the service was not using at least half its limit are ignored: they say nothing about
+ * capacity.
+ */
+public class AdaptiveConcurrencyLimit {
+    static final int WINDOW_SIZE = 20;
+    // The baseline is a moving average over this many windows
+    private static final double BASELINE_WINDOWS = 30;
+    private static final double SMOOTHING = 0.2;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final int minLimit;
+    private final int maxLimit;
+    private final double readShare;
+    private final double tolerance;
+    private volatile int currentLimit;
+
+    // Guarded by this
+    private double limit;
+    private double baselineNanos;
+    private long windowNanos;
+    private int windowSamples;
+    private int windowPeakInflight;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double readShare, double tolerance) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.readShare = readShare;
+        this.tolerance = tolerance;
+        this.limit = initialLimit;
+        this.currentLimit = initialLimit;
+    }
+
+    /**
+     * Admits the request if it fits under the limit for its priority. Every admitted request must be
+     * followed by exactly one call to release.
+     */
+    public boolean tryAcquire(boolean write) {
+        int cap = write ? currentLimit : Math.max(1, (int) (currentLimit * readShare));
+        while (true) {
+            int current = inflight.get();
+            if (current >= cap) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Ends an admitted request. Pass the latency to feed the limit, or a negative value to leave the
+     * limit alone, e.g. for a request that went asynchronous.
+     */
+    public void release(long latencyNanos) {
+        int before = inflight.getAndDecrement();
+        if (latencyNanos >= 0) {
+            sample(latencyNanos, before);
+        }
+    }
+
+    public int limit() {
+        return currentLimit;
+    }
+
+    public int inflight() {
+        return inflight.get();
+    }
+
+    private synchronized void sample(long latencyNanos, int inflightAtCompletion) {
+        windowNanos += latencyNanos;
+        windowPeakInflight = Math.max(windowPeakInflight, inflightAtCompletion);
+        if (++windowSamples < WINDOW_SIZE) {
+            return;
+        }
+        double recent = (double) windowNanos / windowSamples;
+        int peak = windowPeakInflight;
+        windowNanos = 0;
+        windowSamples = 0;
+        windowPeakInflight = 0;
+
+        if (baselineNanos == 0) {
+            baselineNanos = recent;
+        } else {
+            baselineNanos += (recent - baselineNanos) / BASELINE_WINDOWS;
+        }
+        // After a slow spell the baseline is pulled down faster, so congestion is judged against
+        // healthy latency again rather than against the slow spell
+        if (baselineNanos > 2 * recent) {
+            baselineNanos *= 0.95;
+        }
+        if (peak < limit / 2) {
+            return;
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * baselineNanos / recent));
+        double target = limit * gradient + Math.sqrt(limit);
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + target * SMOOTHING));
+        currentLimit = (int) limit;
+    }
+}
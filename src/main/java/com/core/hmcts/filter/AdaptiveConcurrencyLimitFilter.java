@@ -0,0 +1,72 @@
+package com.core.hmcts.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admission control for the task endpoints. Requests over the adaptive limit are answered 503 at
+ * once instead of queueing on threads that wait for a pool connection, so a slow database costs the
+ * excess requests a fast retry rather than costing every request its latency. Reads are shed before
+ * writes. The change feed and export stream for minutes and are left out of the limit.
+ */
+public class AdaptiveConcurrencyLimitFilter extends OncePerRequestFilter {
+    private static final String OVERLOADED_BODY = "{\"code\":503,\"message\":\"Service overloaded, retry shortly\",\"data\":null}";
+
+    private final AdaptiveConcurrencyLimit limit;
+    private final LongAdder rejectedReads = new LongAdder();
+    private final LongAdder rejectedWrites = new LongAdder();
+
+    public AdaptiveConcurrencyLimitFilter(AdaptiveConcurrencyLimit limit) {
+        this.limit = limit;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.startsWith("/tasks/feed") || path.startsWith("/tasks/export");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean write = isWrite(request.getMethod());
+        if (!limit.tryAcquire(write)) {
+            (write ? rejectedWrites : rejectedReads).increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write(OVERLOADED_BODY);
+            return;
+        }
+        long started = System.nanoTime();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = !request.isAsyncStarted();
+        } finally {
+            limit.release(completed ? System.nanoTime() - started : -1);
+        }
+    }
+
+    public long rejectedReads() {
+        return rejectedReads.sum();
+    }
+
+    public long rejectedWrites() {
+        return rejectedWrites.sum();
+    }
+
+    private static boolean isWrite(String method) {
+        return !(HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) || HttpMethod.OPTIONS.matches(method));
+    }
+}
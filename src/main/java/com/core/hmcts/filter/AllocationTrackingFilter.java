@@ -0,0 +1,78 @@
+package com.core.hmcts.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Records the bytes allocated by the request thread while a request is handled, per handler method,
+ * as tasks.request.allocation. Requests above the handler's configured budget also increment
+ * tasks.request.allocation.exceeded. Virtual threads do not report allocation and are skipped.
+ */
+public class AllocationTrackingFilter extends OncePerRequestFilter {
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final boolean supported = threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled();
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, DataSize> budgets;
+
+    private final ConcurrentMap<String, EndpointMeters> meters = new ConcurrentHashMap<>();
+
+    public AllocationTrackingFilter(MeterRegistry meterRegistry, Map<String, DataSize> budgets) {
+        this.meterRegistry = meterRegistry;
+        this.budgets = Map.copyOf(budgets);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long before = supported ? threads.getCurrentThreadAllocatedBytes() : -1;
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (before >= 0 && request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+                long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+                meters.computeIfAbsent(handler.getMethod().getName(), this::register).record(allocated);
+            }
+        }
+    }
+
+    private EndpointMeters register(String endpoint) {
+        DataSize budget = budgets.get(endpoint);
+        return new EndpointMeters(
+                DistributionSummary.builder("tasks.request.allocation")
+                        .baseUnit("bytes")
+                        .tag("endpoint", endpoint)
+                        .register(meterRegistry),
+                Counter.builder("tasks.request.allocation.exceeded")
+                        .tag("endpoint", endpoint)
+                        .register(meterRegistry),
+                budget == null ? Long.MAX_VALUE : budget.toBytes());
+    }
+
+    private record EndpointMeters(DistributionSummary allocated, Counter exceeded, long budget) {
+        void record(long bytes) {
+            allocated.record(bytes);
+            if (bytes > budget) {
+                exceeded.increment();
+            }
+        }
+    }
+}
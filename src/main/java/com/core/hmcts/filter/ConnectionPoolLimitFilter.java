@@ -0,0 +1,113 @@
+package com.core.hmcts.filter;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admits at most as many concurrent requests as there are pooled connections. With virtual threads
+ * there is no Tomcat thread cap left to do this, and thousands of threads parked inside the pool's
+ * getConnection would each wait out the full connection timeout instead of failing fast.
+ * <p>
+ * A request that goes asynchronous keeps its permit until the async work completes, since that is
+ * where a streaming export holds its connection. The change feed, statistics and search are served
+ * from memory and are not limited.
+ */
+public class ConnectionPoolLimitFilter extends OncePerRequestFilter {
+    private static final String BUSY_BODY = "{\"code\":503,\"message\":\"Service busy, retry shortly\",\"data\":null}";
+
+    private final Semaphore permits;
+
+    private final long timeoutNanos;
+
+    public ConnectionPoolLimitFilter(int permits, Duration timeout) {
+        this.permits = new Semaphore(permits, true);
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.startsWith("/tasks/feed") || path.startsWith("/tasks/stats") || path.startsWith("/tasks/search");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write(BUSY_BODY);
+            return;
+        }
+        Permit permit = new Permit();
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(permit);
+                return;
+            }
+        } catch (IOException | ServletException | RuntimeException e) {
+            permit.release();
+            throw e;
+        }
+        permit.release();
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    // Releases once, whichever of completion, error or timeout is reported first
+    private class Permit implements AsyncListener {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        // A restarted async cycle drops its listeners, so stay registered for the new one
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
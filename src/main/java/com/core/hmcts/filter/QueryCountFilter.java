@@ -0,0 +1,46 @@
+package com.core.hmcts.filter;
+
+import com.core.hmcts.model.dao.QueryCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Records how many SQL statements each request issued on its thread as tasks.request.queries, per
+ * handler method. A jump here after a change usually means an N+1 or a lost batch.
+ */
+public class QueryCountFilter extends OncePerRequestFilter {
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public QueryCountFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        int before = QueryCounter.current();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+                summaries.computeIfAbsent(handler.getMethod().getName(), endpoint -> DistributionSummary.builder("tasks.request.queries")
+                                .tag("endpoint", endpoint)
+                                .register(meterRegistry))
+                        .record(QueryCounter.current() - before);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.core.hmcts.handler;
+
+import com.core.hmcts.model.dao.TasksDao;
+import com.core.hmcts.model.entity.Tasks;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.stream.Stream;
+
+public final class TaskEtags {
+
+    private TaskEtags() {
+    }
+
+    public static String forTask(Tasks task) {
+        return forTask(task.getId(), task.getUpdatedAt());
+    }
+
+    public static String forTask(String id, Timestamp updatedAt) {
+        return updatedAt == null ? null : id + "-" + Long.toHexString(updatedAt.getTime());
+    }
+
+    public static String forTaskPage(Pageable pageable, List<Tasks> tasks) {
+        return forPage(pageable, tasks.stream().map(task -> version(task.getId(), task.getUpdatedAt())));
+    }
+
+    public static String forVersionPage(Pageable pageable, List<TasksDao.TaskVersion> versions) {
+        return forPage(pageable, versions.stream().map(version -> version(version.getId(), version.getUpdatedAt())));
+    }
+
+    // A page is unchanged when the same request selects the same rows at the same versions
+    private static String forPage(Pageable pageable, Stream<String> versions) {
+        StringBuilder key = new StringBuilder(pageable.toString());
+        versions.forEach(version -> key.append(';').append(version));
+        return DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String version(String id, Timestamp updatedAt) {
+        return id + ":" + (updatedAt == null ? "" : Long.toHexString(updatedAt.getTime()));
+    }
+}
@@ -0,0 +1,23 @@
+package com.core.hmcts.model.dao;
+
+import com.core.hmcts.model.entity.ArchivedTasks;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+
+public interface ArchivedTasksDao extends JpaRepository<ArchivedTasks, String> {
+
+    @Query("select a.updatedAt from ArchivedTasks a where a.id = :id")
+    Timestamp findUpdatedAtById(@Param("id") String id);
+
+    // Copies rows server-side; the caller deletes them from tbl_tasks in the same transaction
+    @Modifying
+    @Query("insert into ArchivedTasks (id, title, description, status, dueDate, createdAt, updatedAt, archivedAt) " +
+            "select t.id, t.title, t.description, t.status, t.dueDate, t.createdAt, t.updatedAt, :archivedAt " +
+            "from Tasks t where t.id in :ids")
+    int copyFromTasks(@Param("ids") Collection<String> ids, @Param("archivedAt") Timestamp archivedAt);
+}
@@ -0,0 +1,21 @@
+package com.core.hmcts.model.dao;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread. Callers take the difference
+ * between two readings, so nothing has to be reset between requests.
+ */
+public class QueryCounter implements StatementInspector {
+    private static final ThreadLocal<int[]> STATEMENTS = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get()[0]++;
+        return sql;
+    }
+
+    public static int current() {
+        return STATEMENTS.get()[0];
+    }
+}
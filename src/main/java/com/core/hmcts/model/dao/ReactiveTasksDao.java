@@ -0,0 +1,136 @@
+package com.core.hmcts.model.dao;
+
+import com.core.hmcts.model.entity.Tasks;
+import com.core.hmcts.model.entity.UuidBinaryType;
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * R2DBC counterpart of {@link TasksDao} for the reactive profile. Rows are mapped onto the JPA entity
+ * class as plain objects so responses, ETags and change events are shared with the servlet stack.
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveTasksDao {
+    private static final String COLUMNS = "id, title, description, status, due_date, created_at, updated_at";
+    private static final Map<String, String> SORTABLE_COLUMNS = Map.of(
+            "id", "id",
+            "title", "title",
+            "status", "status",
+            "dueDate", "due_date",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at");
+    // Rows are pulled from the driver in batches of this size as subscriber demand allows
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveTasksDao(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<Tasks> findTasksById(String id) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM tbl_tasks WHERE id = :id")
+                .bind("id", id(id))
+                .map(ReactiveTasksDao::toTask)
+                .one();
+    }
+
+    public Flux<Tasks> findAll(Pageable pageable) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM tbl_tasks" + orderBy(pageable.getSort())
+                        + " LIMIT :limit OFFSET :offset")
+                .bind("limit", pageable.getPageSize())
+                .bind("offset", pageable.getOffset())
+                .map(ReactiveTasksDao::toTask)
+                .all();
+    }
+
+    // Walks idx_tasks_created_at_id like TasksDao.streamAllOrdered
+    public Flux<Tasks> streamAllOrdered() {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM tbl_tasks ORDER BY created_at, id")
+                .filter(statement -> statement.fetchSize(STREAM_FETCH_SIZE))
+                .map(ReactiveTasksDao::toTask)
+                .all();
+    }
+
+    public Mono<Tasks> insert(Tasks task) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("INSERT INTO tbl_tasks (" + COLUMNS + ") "
+                        + "VALUES (:id, :title, :description, :status, :dueDate, :createdAt, :updatedAt)")
+                .bind("id", id(task.getId()))
+                .bind("title", task.getTitle())
+                .bind("status", task.getStatus().name())
+                .bind("dueDate", task.getDueDate())
+                .bind("createdAt", task.getCreatedAt().toLocalDateTime())
+                .bind("updatedAt", task.getUpdatedAt().toLocalDateTime());
+        spec = task.getDescription() == null
+                ? spec.bindNull("description", String.class)
+                : spec.bind("description", task.getDescription());
+        return spec.fetch().rowsUpdated().thenReturn(task);
+    }
+
+    public Mono<Long> updateStatus(String id, Tasks.TaskStatus status, Timestamp updatedAt) {
+        return databaseClient.sql("UPDATE tbl_tasks SET status = :status, updated_at = :updatedAt WHERE id = :id")
+                .bind("status", status.name())
+                .bind("updatedAt", updatedAt.toLocalDateTime())
+                .bind("id", id(id))
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> deleteById(String id) {
+        return databaseClient.sql("DELETE FROM tbl_tasks WHERE id = :id")
+                .bind("id", id(id))
+                .fetch()
+                .rowsUpdated();
+    }
+
+    // Only mapped properties can be sorted on; anything else falls back to insertion order
+    private static String orderBy(Sort sort) {
+        StringJoiner orderBy = new StringJoiner(", ", " ORDER BY ", "");
+        for (Sort.Order order : sort) {
+            String column = SORTABLE_COLUMNS.get(order.getProperty());
+            if (column != null) {
+                orderBy.add(column + (order.isAscending() ? " ASC" : " DESC"));
+            }
+        }
+        orderBy.add("created_at, id");
+        return orderBy.toString();
+    }
+
+    // Ids are BINARY(16) columns; see UuidBinaryType
+    private static ByteBuffer id(String id) {
+        return ByteBuffer.wrap(UuidBinaryType.toBytes(id));
+    }
+
+    private static Tasks toTask(Readable row) {
+        String status = row.get("status", String.class);
+        ByteBuffer id = row.get("id", ByteBuffer.class);
+        byte[] idBytes = new byte[id.remaining()];
+        id.get(idBytes);
+        Tasks task = new Tasks();
+        task.setId(UuidBinaryType.fromBytes(idBytes));
+        task.setTitle(row.get("title", String.class));
+        task.setDescription(row.get("description", String.class));
+        task.setStatus(status == null ? null : Tasks.TaskStatus.valueOf(status));
+        task.setDueDate(row.get("due_date", LocalDateTime.class));
+        task.setCreatedAt(timestamp(row.get("created_at", LocalDateTime.class)));
+        task.setUpdatedAt(timestamp(row.get("updated_at", LocalDateTime.class)));
+        return task;
+    }
+
+    private static Timestamp timestamp(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+}
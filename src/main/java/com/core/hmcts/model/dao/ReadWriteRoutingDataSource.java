@@ -0,0 +1,194 @@
+package com.core.hmcts.model.dao;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends connections for read-only transactions to a replica, round robin, and everything else to the
+ * primary. It must sit behind a LazyConnectionDataSourceProxy: the transaction is only marked
+ * read-only after the transaction manager has asked for its connection, so the physical connection
+ * has to be fetched at the first statement. A replica that fails to hand out a connection or its
+ * health check is ejected until a later check succeeds; reads fall back to the primary meanwhile.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements MeterBinder, DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    public static final String PRIMARY = "primary";
+
+    // Set for requests inside a read-your-writes window
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Map<Object, Replica> replicasByName = new HashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final int validationTimeoutSeconds;
+    private final LongAdder primaryReads = new LongAdder();
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder ejections = new LongAdder();
+
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration validationTimeout) {
+        this.primary = primary;
+        this.validationTimeoutSeconds = (int) Math.max(1, validationTimeout.toSeconds());
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        replicas.forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, dataSource);
+            this.replicas.add(replica);
+            this.replicasByName.put(name, replica);
+        });
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    public static boolean pinToPrimary() {
+        boolean wasPinned = isPinnedToPrimary();
+        PRIMARY_PINNED.set(Boolean.TRUE);
+        return wasPinned;
+    }
+
+    public static void unpin(boolean wasPinned) {
+        if (!wasPinned) {
+            PRIMARY_PINNED.remove();
+        }
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PRIMARY_PINNED.get() != null;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+        Replica replica = nextHealthyReplica();
+        return replica != null ? replica.name : PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        Replica replica = replicasByName.get(determineCurrentLookupKey());
+        if (replica == null) {
+            if (readOnly) {
+                primaryReads.increment();
+            }
+            return primary.getConnection();
+        }
+        try {
+            Connection connection = replica.dataSource.getConnection();
+            replicaReads.increment();
+            return connection;
+        } catch (SQLException e) {
+            eject(replica, e);
+            primaryReads.increment();
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // Pools are configured with their own credentials
+        return getConnection();
+    }
+
+    // Ejected replicas are readmitted as soon as they pass a check again
+    @Scheduled(fixedDelayString = "${tasks.datasource.replica-check-interval:5s}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!connection.isValid(validationTimeoutSeconds)) {
+                    eject(replica, null);
+                } else if (!replica.healthy) {
+                    replica.healthy = true;
+                    log.info("Replica {} passed its health check and is back in rotation", replica.name);
+                }
+            } catch (SQLException e) {
+                eject(replica, e);
+            }
+        }
+    }
+
+    public boolean isHealthy(String replicaName) {
+        Replica replica = replicasByName.get(replicaName);
+        return replica != null && replica.healthy;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("tasks.datasource.replicas.healthy", replicas, r -> r.stream().filter(replica -> replica.healthy).count())
+                .description("Replicas currently receiving reads")
+                .register(registry);
+        FunctionCounter.builder("tasks.datasource.reads", primaryReads, LongAdder::sum)
+                .tag("target", PRIMARY)
+                .description("Read-only transactions served by the primary")
+                .register(registry);
+        FunctionCounter.builder("tasks.datasource.reads", replicaReads, LongAdder::sum)
+                .tag("target", "replica")
+                .description("Read-only transactions served by a replica")
+                .register(registry);
+        FunctionCounter.builder("tasks.datasource.replicas.ejections", ejections, LongAdder::sum)
+                .description("Times a replica was taken out of rotation")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private Replica nextHealthyReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private void eject(Replica replica, SQLException cause) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            ejections.increment();
+            log.warn("Replica {} ejected, reads fall back to the primary", replica.name, cause);
+        }
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
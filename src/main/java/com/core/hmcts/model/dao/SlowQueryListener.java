@@ -0,0 +1,34 @@
+package com.core.hmcts.model.dao;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts repository calls slower than the configured threshold as tasks.repository.slow, tagged with
+ * the repository and method. Their latency distribution is already in spring.data.repository.invocations.
+ */
+public class SlowQueryListener implements RepositoryMethodInvocationListener {
+    private final MeterRegistry meterRegistry;
+
+    private final long thresholdNanos;
+
+    public SlowQueryListener(MeterRegistry meterRegistry, Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.thresholdNanos = threshold.toNanos();
+    }
+
+    @Override
+    public void afterInvocation(RepositoryMethodInvocation invocation) {
+        if (invocation.getDuration(TimeUnit.NANOSECONDS) >= thresholdNanos) {
+            Counter.builder("tasks.repository.slow")
+                    .tag("repository", invocation.getRepositoryInterface().getSimpleName())
+                    .tag("method", invocation.getMethod().getName())
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+}
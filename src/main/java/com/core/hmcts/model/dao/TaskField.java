@@ -0,0 +1,77 @@
+package com.core.hmcts.model.dao;
+
+import com.core.hmcts.model.entity.Tasks;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Task attributes a client can ask for with fields=. Projections are keyed by attribute name in
+ * declaration order and hold values that serialise exactly as the same property of Tasks does.
+ */
+public enum TaskField {
+    ID("id", Tasks::getId),
+    TITLE("title", Tasks::getTitle),
+    DESCRIPTION("description", Tasks::getDescription),
+    STATUS("status", Tasks::getStatus),
+    DUE_DATE("dueDate", Tasks::getDueDate),
+    CREATED_AT("createdAt", Tasks::getCreatedAt),
+    UPDATED_AT("updatedAt", Tasks::getUpdatedAt);
+
+    // Matches the @JsonFormat on Tasks.dueDate
+    private static final DateTimeFormatter DUE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String NAMES = Arrays.stream(values()).map(TaskField::attribute).collect(Collectors.joining(", "));
+
+    private final String attribute;
+    private final Function<Tasks, Object> getter;
+
+    TaskField(String attribute, Function<Tasks, Object> getter) {
+        this.attribute = attribute;
+        this.getter = getter;
+    }
+
+    public String attribute() {
+        return attribute;
+    }
+
+    /**
+     * Parses a comma separated list of attribute names, e.g. "id,title,status,dueDate".
+     */
+    public static Set<TaskField> parse(String fields) {
+        Set<TaskField> parsed = EnumSet.noneOf(TaskField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            parsed.add(Arrays.stream(values())
+                    .filter(field -> field.attribute.equals(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown field " + trimmed + "; expected any of " + NAMES)));
+        }
+        if (parsed.isEmpty()) {
+            throw new IllegalArgumentException("fields must name at least one of " + NAMES);
+        }
+        return parsed;
+    }
+
+    // For tasks already in memory, such as cache hits
+    public static Map<String, Object> project(Tasks task, Set<TaskField> fields) {
+        Map<String, Object> projection = new LinkedHashMap<>();
+        for (TaskField field : fields) {
+            projection.put(field.attribute, field.toJson(field.getter.apply(task)));
+        }
+        return projection;
+    }
+
+    Object toJson(Object value) {
+        return this == DUE_DATE && value != null ? DUE_DATE_FORMAT.format((LocalDateTime) value) : value;
+    }
+}
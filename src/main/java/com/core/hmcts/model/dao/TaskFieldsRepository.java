@@ -0,0 +1,19 @@
+package com.core.hmcts.model.dao;
+
+import com.core.hmcts.model.entity.Tasks;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Sparse reads for fields=: only the requested columns are selected, and no entities are built or tracked
+public interface TaskFieldsRepository {
+
+    List<Map<String, Object>> findFields(Set<TaskField> fields, @Nullable Specification<Tasks> specification, Pageable pageable);
+
+    @Nullable
+    Map<String, Object> findFieldsById(String id, Set<TaskField> fields);
+}
@@ -0,0 +1,80 @@
+package com.core.hmcts.model.dao;
+
+import com.core.hmcts.model.entity.Tasks;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Tuple queries return plain column values, so Hibernate never hydrates or snapshots a Tasks entity
+class TaskFieldsRepositoryImpl implements TaskFieldsRepository {
+    private final EntityManager entityManager;
+
+    TaskFieldsRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Map<String, Object>> findFields(Set<TaskField> fields, Specification<Tasks> specification, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Tasks> root = query.from(Tasks.class);
+        query.multiselect(select(root, fields));
+        if (specification != null) {
+            query.where(specification.toPredicate(root, query, cb));
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+        TypedQuery<Tuple> typed = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typed.setFirstResult((int) pageable.getOffset());
+            typed.setMaxResults(pageable.getPageSize());
+        }
+        List<Tuple> rows = typed.getResultList();
+        List<Map<String, Object>> projections = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            projections.add(toMap(row, fields));
+        }
+        return projections;
+    }
+
+    @Override
+    public Map<String, Object> findFieldsById(String id, Set<TaskField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Tasks> root = query.from(Tasks.class);
+        query.multiselect(select(root, fields)).where(cb.equal(root.get("id"), id));
+        List<Tuple> rows = entityManager.createQuery(query).setMaxResults(1).getResultList();
+        return rows.isEmpty() ? null : toMap(rows.get(0), fields);
+    }
+
+    private static List<Selection<?>> select(Root<Tasks> root, Set<TaskField> fields) {
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (TaskField field : fields) {
+            selections.add(root.get(field.attribute()));
+        }
+        return selections;
+    }
+
+    private static Map<String, Object> toMap(Tuple row, Set<TaskField> fields) {
+        Map<String, Object> projection = new LinkedHashMap<>();
+        int i = 0;
+        for (TaskField field : fields) {
+            projection.put(field.attribute(), field.toJson(row.get(i++)));
+        }
+        return projection;
+    }
+}
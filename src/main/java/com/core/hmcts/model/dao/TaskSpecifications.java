@@ -0,0 +1,46 @@
+package com.core.hmcts.model.dao;
+
+import com.core.hmcts.model.dto.TaskFilterDto;
+import com.core.hmcts.model.entity.Tasks;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+// Each combination lands on an index declared on Tasks: (status, due_date), (due_date),
+// (created_at, id) or (updated_at)
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Tasks> matching(TaskFilterDto filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.getStatus() != null) {
+                predicates.add(cb.equal(root.get("status"), filter.getStatus()));
+            }
+            if (filter.getDueAfter() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("dueDate"), filter.getDueAfter()));
+            }
+            if (filter.getDueBefore() != null) {
+                predicates.add(cb.lessThan(root.get("dueDate"), filter.getDueBefore()));
+            }
+            if (filter.getCreatedFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), Timestamp.valueOf(filter.getCreatedFrom())));
+            }
+            if (filter.getCreatedTo() != null) {
+                predicates.add(cb.lessThan(root.get("createdAt"), Timestamp.valueOf(filter.getCreatedTo())));
+            }
+            if (filter.getUpdatedFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("updatedAt"), Timestamp.valueOf(filter.getUpdatedFrom())));
+            }
+            if (filter.getUpdatedTo() != null) {
+                predicates.add(cb.lessThan(root.get("updatedAt"), Timestamp.valueOf(filter.getUpdatedTo())));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
@@ -1,8 +1,135 @@
 package com.core.hmcts.model.dao;
 
 import com.core.hmcts.model.entity.Tasks;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface TasksDao extends JpaRepository<Tasks, String> {
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface TasksDao extends JpaRepository<Tasks, String>, JpaSpecificationExecutor<Tasks>, TaskFieldsRepository {
     Tasks findTasksById(String id);
+
+    // Version lookups answer conditional GETs without hydrating or serialising the full rows
+    @Query("select t.updatedAt from Tasks t where t.id = :id")
+    Timestamp findUpdatedAtById(@Param("id") String id);
+
+    @Query("select t.id as id, t.updatedAt as updatedAt from Tasks t")
+    Slice<TaskVersion> findVersions(Pageable pageable);
+
+    // Keyset pagination on idx_tasks_created_at_id: seeks instead of OFFSET and never runs a COUNT
+    @Query("select t from Tasks t order by t.createdAt asc, t.id asc")
+    List<Tasks> findFirstKeysetPage(Limit limit);
+
+    @Query("select t from Tasks t where t.createdAt > :createdAt or (t.createdAt = :createdAt and t.id > :id) " +
+            "order by t.createdAt asc, t.id asc")
+    List<Tasks> findKeysetPageAfter(@Param("createdAt") Timestamp createdAt, @Param("id") String id, Limit limit);
+
+    @Query("select t from Tasks t where t.createdAt < :createdAt or (t.createdAt = :createdAt and t.id < :id) " +
+            "order by t.createdAt desc, t.id desc")
+    List<Tasks> findKeysetPageBefore(@Param("createdAt") Timestamp createdAt, @Param("id") String id, Limit limit);
+
+    // Must be consumed inside a transaction; rows are fetched from the driver in chunks rather than materialised
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from Tasks t order by t.createdAt asc, t.id asc")
+    Stream<Tasks> streamAllOrdered();
+
+    long countByIdIn(Collection<String> ids);
+
+    @Query("select t.id from Tasks t where (:currentStatus is null or t.status = :currentStatus) " +
+            "and (:dueFrom is null or t.dueDate >= :dueFrom) and (:dueTo is null or t.dueDate < :dueTo)")
+    List<String> findIdsMatching(@Param("currentStatus") Tasks.TaskStatus currentStatus,
+                                 @Param("dueFrom") LocalDateTime dueFrom,
+                                 @Param("dueTo") LocalDateTime dueTo,
+                                 Limit limit);
+
+    // Locks the rows a bulk status update will change, so a concurrent writer cannot move them out of
+    // the filter between this read and the update; the filter is the same one updateStatusMatching applies
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t.id from Tasks t where t.id in :ids and (t.status is null or t.status <> :status) " +
+            "and (:currentStatus is null or t.status = :currentStatus) " +
+            "and (:dueFrom is null or t.dueDate >= :dueFrom) and (:dueTo is null or t.dueDate < :dueTo)")
+    List<String> lockIdsForStatusUpdate(@Param("ids") Collection<String> ids,
+                                        @Param("status") Tasks.TaskStatus status,
+                                        @Param("currentStatus") Tasks.TaskStatus currentStatus,
+                                        @Param("dueFrom") LocalDateTime dueFrom,
+                                        @Param("dueTo") LocalDateTime dueTo);
+
+    // Set-based update: no entities are loaded, so @UpdateTimestamp does not fire and updatedAt is bound explicitly.
+    // The filter is repeated so only rows that still match are changed
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Tasks t set t.status = :status, t.updatedAt = :updatedAt " +
+            "where t.id in :ids and (t.status is null or t.status <> :status) " +
+            "and (:currentStatus is null or t.status = :currentStatus) " +
+            "and (:dueFrom is null or t.dueDate >= :dueFrom) and (:dueTo is null or t.dueDate < :dueTo)")
+    int updateStatusMatching(@Param("ids") Collection<String> ids,
+                             @Param("status") Tasks.TaskStatus status,
+                             @Param("currentStatus") Tasks.TaskStatus currentStatus,
+                             @Param("dueFrom") LocalDateTime dueFrom,
+                             @Param("dueTo") LocalDateTime dueTo,
+                             @Param("updatedAt") Timestamp updatedAt);
+
+    // Aggregates used to seed and reconcile the in-memory task statistics
+    @Query("select t.status as status, cast(t.dueDate as LocalDate) as dueDay, count(t) as total " +
+            "from Tasks t group by t.status, cast(t.dueDate as LocalDate)")
+    List<DueDayCount> countByStatusAndDueDay();
+
+    // Streamed once at startup to fill the overdue timer; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select t.id as id, t.dueDate as dueDate from Tasks t where t.status is null or t.status <> :status")
+    Stream<TaskDueDate> streamDueDatesByStatusNot(@Param("status") Tasks.TaskStatus status);
+
+    @Query("select t.id as id, t.dueDate as dueDate from Tasks t where t.id in :ids")
+    List<TaskDueDate> findDueDatesByIdIn(@Param("ids") Collection<String> ids);
+
+    // Locks the batch so a task reopened while it is being archived is either moved whole or left in place
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t.id from Tasks t where t.status = :status and t.updatedAt < :before order by t.updatedAt asc")
+    List<String> findIdsForArchival(@Param("status") Tasks.TaskStatus status,
+                                    @Param("before") Timestamp before,
+                                    Limit limit);
+
+    @Modifying
+    @Query("delete from Tasks t where t.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<String> ids);
+
+    interface TaskVersion {
+        String getId();
+
+        Timestamp getUpdatedAt();
+    }
+
+    interface TaskDueDate {
+        String getId();
+
+        LocalDateTime getDueDate();
+    }
+
+    interface DueDayCount {
+        Tasks.TaskStatus getStatus();
+
+        LocalDate getDueDay();
+
+        long getTotal();
+    }
 }
@@ -0,0 +1,22 @@
+package com.core.hmcts.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@Schema(description = "Outcome of a single item in a batch request")
+public class BatchItemResultDto {
+
+    @Schema(description = "Position of the item in the request array")
+    private int index;
+
+    private int status;
+
+    private String id;
+
+    private List<String> errors;
+}
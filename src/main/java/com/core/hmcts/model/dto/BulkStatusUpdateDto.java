@@ -0,0 +1,33 @@
+package com.core.hmcts.model.dto;
+
+import com.core.hmcts.model.entity.Tasks.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@Schema(description = "Move many tasks to a new status, selected by id or by filter")
+public class BulkStatusUpdateDto {
+
+    @Schema(description = "Task ids to update; leave empty to select by filter")
+    private List<String> ids;
+
+    @Schema(description = "Filter: only tasks currently in this status")
+    private TaskStatus currentStatus;
+
+    @Schema(description = "Filter: due on or after", type = "string", format = "date-time", example = "2025-04-03T00:00")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm")
+    private String dueFrom;
+
+    @Schema(description = "Filter: due before", type = "string", format = "date-time", example = "2025-04-04T00:00")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm")
+    private String dueTo;
+
+    @NotNull(message = "is required")
+    private TaskStatus status;
+}
@@ -0,0 +1,17 @@
+package com.core.hmcts.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@Schema(description = "Outcome of a bulk status update")
+public class BulkUpdateResultDto {
+
+    @Schema(description = "Tasks selected by the ids or filter")
+    private long matched;
+
+    @Schema(description = "Tasks whose status actually changed")
+    private long updated;
+}
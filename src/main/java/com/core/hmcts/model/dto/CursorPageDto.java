@@ -0,0 +1,22 @@
+package com.core.hmcts.model.dto;
+
+import com.core.hmcts.model.entity.Tasks;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@Schema(description = "Cursor paginated tasks")
+public class CursorPageDto {
+
+    private List<Tasks> items;
+
+    @Schema(description = "Opaque cursor for the next page, null on the last page")
+    private String nextCursor;
+
+    @Schema(description = "Opaque cursor for the previous page, null on the first page")
+    private String prevCursor;
+}
@@ -0,0 +1,27 @@
+package com.core.hmcts.model.dto;
+
+import com.core.hmcts.event.TaskChangedEvent;
+import com.core.hmcts.model.entity.Tasks;
+import com.core.hmcts.model.entity.Tasks.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Change pushed on the task feed")
+public class TaskChangeDto {
+
+    private TaskChangedEvent.Type type;
+
+    private String id;
+
+    private TaskStatus status;
+
+    private TaskStatus previousStatus;
+
+    @Schema(description = "Task as written; omitted for bulk status updates")
+    private Tasks task;
+}
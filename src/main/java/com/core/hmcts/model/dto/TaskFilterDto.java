@@ -0,0 +1,48 @@
+package com.core.hmcts.model.dto;
+
+import com.core.hmcts.model.entity.Tasks.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Task list filters; lower bounds are inclusive and upper bounds exclusive")
+public class TaskFilterDto {
+
+    private TaskStatus status;
+
+    @Schema(type = "string", format = "date-time", example = "2025-04-03T14:30")
+    @DateTimeFormat(pattern = "yyyy-MM-dd'T'HH:mm")
+    private LocalDateTime dueAfter;
+
+    @Schema(type = "string", format = "date-time", example = "2025-04-10T14:30")
+    @DateTimeFormat(pattern = "yyyy-MM-dd'T'HH:mm")
+    private LocalDateTime dueBefore;
+
+    @Schema(type = "string", format = "date-time", example = "2025-04-01T00:00")
+    @DateTimeFormat(pattern = "yyyy-MM-dd'T'HH:mm")
+    private LocalDateTime createdFrom;
+
+    @Schema(type = "string", format = "date-time", example = "2025-04-02T00:00")
+    @DateTimeFormat(pattern = "yyyy-MM-dd'T'HH:mm")
+    private LocalDateTime createdTo;
+
+    @Schema(type = "string", format = "date-time", example = "2025-04-01T00:00")
+    @DateTimeFormat(pattern = "yyyy-MM-dd'T'HH:mm")
+    private LocalDateTime updatedFrom;
+
+    @Schema(type = "string", format = "date-time", example = "2025-04-02T00:00")
+    @DateTimeFormat(pattern = "yyyy-MM-dd'T'HH:mm")
+    private LocalDateTime updatedTo;
+
+    public boolean hasCriteria() {
+        return status != null || dueAfter != null || dueBefore != null || createdFrom != null
+                || createdTo != null || updatedFrom != null || updatedTo != null;
+    }
+}
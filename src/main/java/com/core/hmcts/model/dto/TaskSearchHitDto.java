@@ -0,0 +1,27 @@
+package com.core.hmcts.model.dto;
+
+import com.core.hmcts.model.entity.Tasks.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@Schema(description = "Task matching a search query, most relevant first")
+public class TaskSearchHitDto {
+
+    private String id;
+
+    private String title;
+
+    private TaskStatus status;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime dueDate;
+
+    @Schema(description = "BM25 relevance score")
+    private double score;
+}
@@ -0,0 +1,26 @@
+package com.core.hmcts.model.dto;
+
+import com.core.hmcts.model.entity.Tasks.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.SortedMap;
+
+@Data
+@AllArgsConstructor
+@Schema(description = "Task counts maintained in memory")
+public class TaskStatisticsDto {
+
+    private long total;
+
+    private Map<TaskStatus, Long> byStatus;
+
+    @Schema(description = "Tasks not completed whose due date has passed")
+    private long overdue;
+
+    @Schema(description = "Number of tasks due on each day")
+    private SortedMap<LocalDate, Long> dueByDay;
+}
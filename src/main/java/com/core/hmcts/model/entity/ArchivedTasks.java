@@ -0,0 +1,58 @@
+package com.core.hmcts.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Type;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+// Completed tasks moved out of tbl_tasks by TaskArchiver; columns are copied unchanged
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Data
+@Table(name = "tbl_tasks_archive", indexes = {
+        @Index(name = "idx_tasks_archive_archived_at", columnList = "archived_at")
+})
+public class ArchivedTasks {
+
+    @Id
+    @Type(UuidBinaryType.class)
+    @Column(length = 16)
+    private String id;
+
+    @Column(nullable = false)
+    private String title;
+
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    private Tasks.TaskStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime dueDate;
+
+    @Column(name = "created_at", nullable = false)
+    private Timestamp createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Timestamp updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private Timestamp archivedAt;
+
+    public Tasks toTask() {
+        Tasks task = new Tasks();
+        task.setId(id);
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setStatus(status);
+        task.setDueDate(dueDate);
+        task.setCreatedAt(createdAt);
+        task.setUpdatedAt(updatedAt);
+        return task;
+    }
+}
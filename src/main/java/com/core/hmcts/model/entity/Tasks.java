@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Type;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.sql.Timestamp;
@@ -15,11 +16,20 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Entity
 @Data
-@Table(name = "tbl_tasks")
+@Table(name = "tbl_tasks", indexes = {
+        @Index(name = "idx_tasks_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_tasks_status_due_date", columnList = "status, due_date"),
+        @Index(name = "idx_tasks_due_date", columnList = "due_date"),
+        @Index(name = "idx_tasks_updated_at", columnList = "updated_at"),
+        @Index(name = "idx_tasks_status_updated_at", columnList = "status, updated_at")
+})
 public class Tasks {
 
+    // Time-ordered UUID stored as BINARY(16); serialised in the usual 36 character form
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
+    @Type(UuidBinaryType.class)
+    @Column(length = 16)
     private String id;
 
     @Column(nullable = false)
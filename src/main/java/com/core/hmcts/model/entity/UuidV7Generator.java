@@ -0,0 +1,42 @@
+package com.core.hmcts.model.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+import java.util.UUID;
+
+/**
+ * UUIDv7 ids: the first 48 bits are the Unix time in milliseconds, so new rows land at the right-hand
+ * edge of the primary key index instead of splitting pages at random. The remaining bits come from
+ * {@link UUID#randomUUID()}, which keeps ids as hard to guess as the v4 ids they replace.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    public static String nextId() {
+        UUID random = UUID.randomUUID();
+        long mostSignificant = (System.currentTimeMillis() << 16)
+                | 0x7000L
+                | (random.getMostSignificantBits() & 0x0FFFL);
+        // randomUUID already sets the RFC 4122 variant in the low bits
+        return new UUID(mostSignificant, random.getLeastSignificantBits()).toString();
+    }
+
+    // Ids assigned up front, as write-behind ingestion does, are kept
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return currentValue != null ? currentValue : nextId();
+    }
+
+    @Override
+    public boolean allowAssignedIdentifiers() {
+        return true;
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,274 @@
+package com.core.hmcts.service;
+
+import com.core.hmcts.model.dto.BulkStatusUpdateDto;
+import com.core.hmcts.model.dto.CreateTaskDto;
+import com.core.hmcts.model.dto.TaskFilterDto;
+import com.core.hmcts.model.dto.UpdateTaskDto;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single writer for the "sqlite" profile. SQLite allows one writer at a time, so instead of request
+ * threads racing for the write lock and backing off on SQLITE_BUSY, single task creates, updates and
+ * deletes are handed to one thread that runs whatever has queued up in a single transaction: one
+ * commit, and one WAL sync, for the whole group. If any write in a group fails, the group is rolled
+ * back and each write retried in its own transaction so only the failing caller sees the error.
+ * Reads bypass the writer and run on the caller's thread against the reader pool. Batch creates and
+ * bulk updates already commit in chunks and run on the caller's thread.
+ */
+@Service
+@Primary
+@Profile("sqlite")
+public class GroupCommitTaskService implements TaskService, SmartLifecycle, MeterBinder {
+    private static final Logger log = LoggerFactory.getLogger(GroupCommitTaskService.class);
+
+    // Callers block until their write commits, so the queue never holds more than one write per request thread
+    private final BlockingQueue<Write<?>> queue = new LinkedBlockingQueue<>();
+    private final LongAdder retriedGroups = new LongAdder();
+    private final TaskService delegate;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxGroupSize;
+    private DistributionSummary groupSizes;
+    private volatile boolean running;
+    private volatile Thread writer;
+
+    public GroupCommitTaskService(@Qualifier("taskServiceImpl") TaskService delegate,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${tasks.sqlite.max-group-size:64}") int maxGroupSize) {
+        this.delegate = delegate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxGroupSize = maxGroupSize;
+    }
+
+    @Override
+    public ResponseEntity<?> addTask(CreateTaskDto task) {
+        return submit(() -> delegate.addTask(task));
+    }
+
+    @Override
+    public ResponseEntity<?> addTasks(List<CreateTaskDto> tasks) {
+        return delegate.addTasks(tasks);
+    }
+
+    @Override
+    public ResponseEntity<?> deleteTask(String id) {
+        return submit(() -> delegate.deleteTask(id));
+    }
+
+    @Override
+    public ResponseEntity<?> getTask(String id) {
+        return delegate.getTask(id);
+    }
+
+    @Override
+    public ResponseEntity<?> getTask(String id, String fields) {
+        return delegate.getTask(id, fields);
+    }
+
+    @Override
+    public String getTaskEtag(String id) {
+        return delegate.getTaskEtag(id);
+    }
+
+    @Override
+    public ResponseEntity<?> getTasks(Pageable pageable) {
+        return delegate.getTasks(pageable);
+    }
+
+    @Override
+    public ResponseEntity<?> getTasks(TaskFilterDto filter, Pageable pageable) {
+        return delegate.getTasks(filter, pageable);
+    }
+
+    @Override
+    public ResponseEntity<?> getTasks(TaskFilterDto filter, Pageable pageable, String fields) {
+        return delegate.getTasks(filter, pageable, fields);
+    }
+
+    @Override
+    public String getTasksEtag(Pageable pageable) {
+        return delegate.getTasksEtag(pageable);
+    }
+
+    @Override
+    public ResponseEntity<?> scrollTasks(String after, String before, int size) {
+        return delegate.scrollTasks(after, before, size);
+    }
+
+    @Override
+    public ResponseEntity<?> searchTasks(String query, int limit) {
+        return delegate.searchTasks(query, limit);
+    }
+
+    @Override
+    public ResponseEntity<?> getStatistics() {
+        return delegate.getStatistics();
+    }
+
+    @Override
+    public ResponseEntity<?> updateTask(String id, UpdateTaskDto updateTaskDto) {
+        return submit(() -> delegate.updateTask(id, updateTaskDto));
+    }
+
+    @Override
+    public ResponseEntity<?> bulkUpdateStatus(BulkStatusUpdateDto bulkStatusUpdateDto) {
+        return delegate.bulkUpdateStatus(bulkStatusUpdateDto);
+    }
+
+    private <T> T submit(Supplier<T> work) {
+        if (!running || Thread.currentThread() == writer) {
+            return work.get();
+        }
+        Write<T> write = new Write<>(work);
+        queue.add(write);
+        try {
+            return write.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private void runWriter() {
+        List<Write<?>> group = new ArrayList<>(maxGroupSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Write<?> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+            } catch (InterruptedException e) {
+                // stop() commits whatever is still queued on the stopping thread
+                Thread.currentThread().interrupt();
+                break;
+            }
+            queue.drainTo(group, maxGroupSize - 1);
+            commit(group);
+            group.clear();
+        }
+    }
+
+    private void commit(List<Write<?>> group) {
+        if (groupSizes != null) {
+            groupSizes.record(group.size());
+        }
+        if (group.size() == 1) {
+            commitAlone(group.get(0));
+            return;
+        }
+        List<Object> results = new ArrayList<>(group.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Write<?> write : group) {
+                    results.add(write.work.get());
+                }
+            });
+        } catch (RuntimeException e) {
+            retriedGroups.increment();
+            log.debug("Group of {} writes rolled back, retrying individually", group.size(), e);
+            group.forEach(this::commitAlone);
+            return;
+        }
+        for (int i = 0; i < group.size(); i++) {
+            group.get(i).complete(results.get(i));
+        }
+    }
+
+    private void commitAlone(Write<?> write) {
+        try {
+            write.complete(transactionTemplate.execute(status -> write.work.get()));
+        } catch (Throwable e) {
+            write.result.completeExceptionally(e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = Thread.ofPlatform().name("sqlite-writer").daemon(true).start(this::runWriter);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = writer;
+        try {
+            current.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Write<?> write;
+        while ((write = queue.poll()) != null) {
+            commitAlone(write);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int pendingWrites() {
+        return queue.size();
+    }
+
+    // Stops after the web server so no request can queue a write behind the drain
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        groupSizes = DistributionSummary.builder("tasks.sqlite.write.group")
+                .description("Writes committed together by the SQLite writer")
+                .register(registry);
+        FunctionCounter.builder("tasks.sqlite.write.retried", retriedGroups, LongAdder::sum)
+                .description("Groups rolled back and retried one write at a time")
+                .register(registry);
+    }
+
+    private static final class Write<T> {
+        private final Supplier<T> work;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private Write(Supplier<T> work) {
+            this.work = work;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void complete(Object value) {
+            result.complete((T) value);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.core.hmcts.service;
+
+import com.core.hmcts.model.dto.CreateTaskDto;
+import com.core.hmcts.model.dto.UpdateTaskDto;
+import com.core.hmcts.model.entity.Tasks;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+public interface ReactiveTaskService {
+    Mono<ResponseEntity<?>> addTask(CreateTaskDto task, URI requestUri);
+    Mono<ResponseEntity<?>> deleteTask(String id);
+    Mono<ResponseEntity<?>> getTask(String id);
+    Mono<ResponseEntity<?>> getTasks(Pageable pageable);
+    Flux<Tasks> streamTasks();
+    Flux<String> streamTasksAsCsv();
+    Mono<ResponseEntity<?>> searchTasks(String query, int limit);
+    Mono<ResponseEntity<?>> getStatistics();
+    Mono<ResponseEntity<?>> updateTask(String id, UpdateTaskDto updateTaskDto);
+}
@@ -0,0 +1,200 @@
+package com.core.hmcts.service;
+
+import com.core.hmcts.event.TaskChangedEvent;
+import com.core.hmcts.handler.DataResponse;
+import com.core.hmcts.handler.TaskEtags;
+import com.core.hmcts.model.dao.ReactiveTasksDao;
+import com.core.hmcts.model.dto.CreateTaskDto;
+import com.core.hmcts.model.dto.UpdateTaskDto;
+import com.core.hmcts.model.entity.Tasks;
+import com.core.hmcts.model.entity.UuidV7Generator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@Profile("reactive")
+public class ReactiveTaskServiceImpl implements ReactiveTaskService {
+    private static final DateTimeFormatter DUE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
+    // Bounds how far the database cursor may run ahead of a slow client
+    private static final int STREAM_PREFETCH = 256;
+
+    private final DataResponse dataResponse;
+
+    private final ReactiveTasksDao tasksDao;
+
+    private final Validator validator;
+
+    private final TaskCache taskCache;
+
+    private final TaskSearchIndex taskSearchIndex;
+
+    private final TaskStatistics taskStatistics;
+
+    private final TransactionalOperator transactionalOperator;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ReactiveTaskServiceImpl(DataResponse dataResponse, ReactiveTasksDao tasksDao, Validator validator,
+                                   TaskCache taskCache, TaskSearchIndex taskSearchIndex, TaskStatistics taskStatistics,
+                                   TransactionalOperator transactionalOperator, ApplicationEventPublisher eventPublisher) {
+        this.dataResponse = dataResponse;
+        this.tasksDao = tasksDao;
+        this.validator = validator;
+        this.taskCache = taskCache;
+        this.taskSearchIndex = taskSearchIndex;
+        this.taskStatistics = taskStatistics;
+        this.transactionalOperator = transactionalOperator;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public Mono<ResponseEntity<?>> addTask(CreateTaskDto task, URI requestUri) {
+        List<String> errors = validate(task);
+        if (!errors.isEmpty()) {
+            return Mono.just(ResponseEntity.badRequest().body(dataResponse.responseData(400, "Validation failed", errors)));
+        }
+        LocalDateTime dueDate;
+        try {
+            dueDate = LocalDateTime.parse(task.getDueDate(), DUE_DATE_FORMAT);
+        } catch (DateTimeParseException e) {
+            return Mono.just(ResponseEntity.badRequest().body(dataResponse.responseData(400, "Due date must match yyyy-MM-dd'T'HH:mm", null)));
+        }
+
+        // JPA generates these on the servlet stack; here they are assigned before the insert
+        Timestamp now = Timestamp.from(Instant.now());
+        Tasks tasks = new Tasks();
+        tasks.setId(UuidV7Generator.nextId());
+        tasks.setTitle(task.getTitle());
+        tasks.setDescription(task.getDescription());
+        tasks.setDueDate(dueDate);
+        tasks.setCreatedAt(now);
+        tasks.setUpdatedAt(now);
+        return tasksDao.insert(tasks)
+                .doOnNext(saved -> eventPublisher.publishEvent(TaskChangedEvent.created(saved)))
+                .<ResponseEntity<?>>map(saved -> {
+                    URI location = UriComponentsBuilder.fromUri(requestUri)
+                            .path("/{id}")
+                            .buildAndExpand(saved.getId())
+                            .toUri();
+                    return ResponseEntity.created(location).body(dataResponse.responseData(201, "Task created successfully", saved));
+                });
+    }
+
+    private List<String> validate(CreateTaskDto task) {
+        if (task == null) {
+            return List.of("Task is required");
+        }
+        List<String> errors = new ArrayList<>();
+        for (ConstraintViolation<CreateTaskDto> violation : validator.validate(task)) {
+            errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        return errors;
+    }
+
+    @Override
+    public Mono<ResponseEntity<?>> deleteTask(String id) {
+        Mono<TaskChangedEvent> deleted = tasksDao.findTasksById(id)
+                .flatMap(tasks -> tasksDao.deleteById(id).thenReturn(TaskChangedEvent.deleted(tasks)));
+        // Published once the transaction has committed, as @TransactionalEventListener would on the servlet stack
+        return transactionalOperator.transactional(deleted)
+                .doOnNext(eventPublisher::publishEvent)
+                .<ResponseEntity<?>>map(event -> ResponseEntity.status(HttpStatus.NO_CONTENT).body(dataResponse.responseData(204, "Task deleted successfully", null)))
+                .defaultIfEmpty(notFound());
+    }
+
+    @Override
+    public Mono<ResponseEntity<?>> getTask(String id) {
+        // Misses are not written back: a load cannot be made atomic with invalidation without blocking
+        Tasks cached = taskCache.getIfPresent(id);
+        Mono<Tasks> tasks = cached != null ? Mono.just(cached) : tasksDao.findTasksById(id);
+        return tasks
+                .<ResponseEntity<?>>map(task -> {
+                    ResponseEntity.BodyBuilder ok = ResponseEntity.ok();
+                    String etag = TaskEtags.forTask(task);
+                    if (etag != null) {
+                        ok.eTag(etag);
+                    }
+                    return ok.body(dataResponse.responseData(200, "Task retrieve successfully", task));
+                })
+                .defaultIfEmpty(notFound());
+    }
+
+    @Override
+    public Mono<ResponseEntity<?>> getTasks(Pageable pageable) {
+        Pageable page = pageable.getPageSize() > TaskServiceImpl.MAX_PAGE_SIZE
+                ? PageRequest.of(pageable.getPageNumber(), TaskServiceImpl.MAX_PAGE_SIZE, pageable.getSort())
+                : pageable;
+        return tasksDao.findAll(page)
+                .collectList()
+                .<ResponseEntity<?>>map(content -> ResponseEntity.ok()
+                        .eTag(TaskEtags.forTaskPage(page, content))
+                        .body(dataResponse.responseData(200, "Tasks retrieve successfully", content)));
+    }
+
+    @Override
+    public Flux<Tasks> streamTasks() {
+        return tasksDao.streamAllOrdered().limitRate(STREAM_PREFETCH);
+    }
+
+    @Override
+    public Flux<String> streamTasksAsCsv() {
+        return Flux.concat(Mono.just(TaskExportServiceImpl.CSV_HEADER), streamTasks().map(TaskExportServiceImpl::csvRow));
+    }
+
+    @Override
+    public Mono<ResponseEntity<?>> searchTasks(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return Mono.just(ResponseEntity.badRequest().body(dataResponse.responseData(400, "Search query is required", null)));
+        }
+        int size = Math.min(Math.max(limit, 1), TaskServiceImpl.MAX_PAGE_SIZE);
+        return Mono.fromSupplier(() -> ResponseEntity.ok().body(dataResponse.responseData(200, "Tasks retrieve successfully", taskSearchIndex.search(query, size))));
+    }
+
+    @Override
+    public Mono<ResponseEntity<?>> getStatistics() {
+        return Mono.fromSupplier(() -> ResponseEntity.ok().body(dataResponse.responseData(200, "Task statistics retrieve successfully", taskStatistics.snapshot())));
+    }
+
+    @Override
+    public Mono<ResponseEntity<?>> updateTask(String id, UpdateTaskDto updateTaskDto) {
+        if (updateTaskDto == null || updateTaskDto.getStatus() == null) {
+            return Mono.just(ResponseEntity.badRequest().body(dataResponse.responseData(400, "Status is required", null)));
+        }
+        Mono<TaskChangedEvent> updated = tasksDao.findTasksById(id)
+                .flatMap(tasks -> {
+                    Tasks.TaskStatus previousStatus = tasks.getStatus();
+                    tasks.setStatus(updateTaskDto.getStatus());
+                    tasks.setUpdatedAt(Timestamp.from(Instant.now()));
+                    return tasksDao.updateStatus(id, tasks.getStatus(), tasks.getUpdatedAt())
+                            .thenReturn(TaskChangedEvent.updated(tasks, previousStatus));
+                });
+        return transactionalOperator.transactional(updated)
+                .doOnNext(eventPublisher::publishEvent)
+                .<ResponseEntity<?>>map(event -> ResponseEntity.ok().body(dataResponse.responseData(200, "Task updated successfully", event.task())))
+                .defaultIfEmpty(notFound());
+    }
+
+    private ResponseEntity<?> notFound() {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(dataResponse.responseData(404, "Task not found", null));
+    }
+}
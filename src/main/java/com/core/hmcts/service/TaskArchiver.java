@@ -0,0 +1,115 @@
+package com.core.hmcts.service;
+
+import com.core.hmcts.event.TasksArchivedEvent;
+import com.core.hmcts.model.dao.ArchivedTasksDao;
+import com.core.hmcts.model.dao.TasksDao;
+import com.core.hmcts.model.entity.Tasks.TaskStatus;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Moves completed tasks that have not changed for tasks.archive.after from tbl_tasks to
+ * tbl_tasks_archive, so scans, indexes and counts over tbl_tasks only cover live work. Each batch
+ * is copied and deleted in its own short transaction with its rows locked, and the archiver pauses
+ * between batches so it never holds locks long enough to stall request traffic. TaskServiceImpl
+ * falls back to the archive when a task id is not found in tbl_tasks.
+ */
+@Component
+@ConditionalOnProperty(name = "tasks.archive.enabled", havingValue = "true")
+public class TaskArchiver implements MeterBinder {
+    private static final Logger log = LoggerFactory.getLogger(TaskArchiver.class);
+
+    private final LongAdder archived = new LongAdder();
+    private final TasksDao tasksDao;
+    private final ArchivedTasksDao archivedTasksDao;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration after;
+    private final int batchSize;
+    private final Duration batchPause;
+    private final int maxBatchesPerRun;
+
+    public TaskArchiver(TasksDao tasksDao, ArchivedTasksDao archivedTasksDao, PlatformTransactionManager transactionManager,
+                        ApplicationEventPublisher eventPublisher,
+                        @Value("${tasks.archive.after:90d}") Duration after,
+                        @Value("${tasks.archive.batch-size:500}") int batchSize,
+                        @Value("${tasks.archive.batch-pause:200ms}") Duration batchPause,
+                        @Value("${tasks.archive.max-batches-per-run:100}") int maxBatchesPerRun) {
+        this.tasksDao = tasksDao;
+        this.archivedTasksDao = archivedTasksDao;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.after = after;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    // Anything left after max-batches-per-run waits for the next run rather than extending this one
+    @Scheduled(fixedDelayString = "${tasks.archive.interval:10m}", initialDelayString = "${tasks.archive.interval:10m}")
+    public void archive() {
+        Timestamp cutoff = Timestamp.from(Instant.now().minus(after));
+        long moved = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int count = archiveBatch(cutoff);
+            moved += count;
+            if (count < batchSize) {
+                break;
+            }
+            try {
+                Thread.sleep(batchPause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (moved > 0) {
+            log.info("Archived {} completed tasks last updated before {}", moved, cutoff);
+        }
+    }
+
+    /**
+     * Moves up to one batch of completed tasks last updated before cutoff and returns how many moved.
+     */
+    public int archiveBatch(Timestamp cutoff) {
+        List<String> ids = transactionTemplate.execute(status -> {
+            List<String> batch = tasksDao.findIdsForArchival(TaskStatus.COMPLETED, cutoff, Limit.of(batchSize));
+            if (batch.isEmpty()) {
+                return batch;
+            }
+            archivedTasksDao.copyFromTasks(batch, Timestamp.from(Instant.now()));
+            tasksDao.deleteByIdIn(batch);
+            return batch;
+        });
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        archived.add(ids.size());
+        eventPublisher.publishEvent(new TasksArchivedEvent(List.copyOf(ids)));
+        return ids.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("tasks.archived", archived, LongAdder::sum)
+                .description("Completed tasks moved to the archive table")
+                .register(registry);
+    }
+}
@@ -0,0 +1,42 @@
+package com.core.hmcts.service;
+
+import com.core.hmcts.model.dao.TasksDao;
+import com.core.hmcts.model.entity.Tasks;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Component
+public class TaskBatchWriter {
+    private final TasksDao tasksDao;
+
+    private final EntityManager entityManager;
+
+    public TaskBatchWriter(TasksDao tasksDao, EntityManager entityManager) {
+        this.tasksDao = tasksDao;
+        this.entityManager = entityManager;
+    }
+
+    // One transaction per chunk; inserts are grouped by hibernate.jdbc.batch_size and the
+    // persistence context is cleared so a large intake never accumulates managed entities
+    @Transactional
+    public List<Tasks> persist(List<Tasks> chunk) {
+        List<Tasks> saved = tasksDao.saveAll(chunk);
+        entityManager.flush();
+        entityManager.clear();
+        return saved;
+    }
+
+    // For tasks whose id is already assigned: saveAll would treat them as existing and merge,
+    // costing a SELECT per row, whereas persist inserts straight away
+    @Transactional
+    public void persistNew(List<Tasks> tasks) {
+        for (Tasks task : tasks) {
+            entityManager.persist(task);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
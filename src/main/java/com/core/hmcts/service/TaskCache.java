@@ -0,0 +1,63 @@
+package com.core.hmcts.service;
+
+import com.core.hmcts.event.TaskChangedEvent;
+import com.core.hmcts.event.TasksBulkUpdatedEvent;
+import com.core.hmcts.model.entity.Tasks;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+@Component
+public class TaskCache {
+    private final Cache<String, Tasks> cache;
+
+    // Caffeine bounds the cache with W-TinyLFU admission and eviction; hit, miss and eviction
+    // counts are published as cache.* metrics tagged cache=tasks
+    public TaskCache(@Value("${tasks.cache.maximum-size:10000}") long maximumSize,
+                     @Value("${tasks.cache.expire-after-write:5m}") Duration expireAfterWrite,
+                     MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "tasks");
+    }
+
+    // Loads are atomic per key, so an invalidation racing a load discards the stale result
+    public Tasks get(String id, Function<String, Tasks> loader) {
+        return cache.get(id, loader);
+    }
+
+    // Replaces whatever is cached with a fresh load, e.g. from the primary when a replica may lag;
+    // runs under the same per-key lock as get, so a racing invalidation still wins
+    public Tasks refresh(String id, Function<String, Tasks> loader) {
+        return cache.asMap().compute(id, (key, stale) -> loader.apply(key));
+    }
+
+    public Tasks getIfPresent(String id) {
+        return cache.getIfPresent(id);
+    }
+
+    public void invalidate(String id) {
+        cache.invalidate(id);
+    }
+
+    // Runs after commit when the change is transactional so readers cannot re-cache the old row
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        cache.invalidate(event.id());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksBulkUpdated(TasksBulkUpdatedEvent event) {
+        cache.invalidateAll(event.ids());
+    }
+}
@@ -0,0 +1,318 @@
+package com.core.hmcts.service;
+
+import com.core.hmcts.event.TaskChangedEvent;
+import com.core.hmcts.event.TasksBulkUpdatedEvent;
+import com.core.hmcts.model.dto.TaskChangeDto;
+import com.core.hmcts.model.entity.Tasks.TaskStatus;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Server-Sent Events change feed for GET /tasks/feed. Every committed change gets a sequence number
+ * and goes into a bounded replay ring, so a reconnecting client resumes from its Last-Event-ID.
+ * Subscribers never block the publishing thread: changes are queued per subscriber, keyed by task id
+ * so a slow consumer only receives the latest change to each task, and written by virtual threads
+ * that exist only while a subscriber has something to send. A subscriber that falls further behind
+ * than max-pending tasks, or resumes from an id the ring has evicted, gets a reset event and
+ * should reload the list.
+ * <p>
+ * Sequence numbers start from the boot time in the high bits, so every id handed out by an earlier
+ * run is below anything this run publishes and a client resuming across a restart is reset rather
+ * than replayed from the wrong point.
+ */
+@Component
+public class TaskChangeFeed implements MeterBinder, DisposableBean {
+
+    static final String RESET_EVENT = "reset";
+
+    // Leaves room for about a million changes per millisecond of uptime before overlapping the next boot
+    private static final int BOOT_SHIFT = 20;
+
+    // Guarded by itself, together with nextSeq
+    private final FeedEvent[] ring;
+    private final long firstSeq;
+    private long nextSeq;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+    private final int maxSubscribers;
+    private final int maxPending;
+    private final long timeoutMillis;
+
+    @Autowired
+    public TaskChangeFeed(@Value("${tasks.feed.replay-size:10000}") int replaySize,
+                          @Value("${tasks.feed.max-subscribers:10000}") int maxSubscribers,
+                          @Value("${tasks.feed.max-pending:1000}") int maxPending,
+                          @Value("${tasks.feed.timeout:30m}") Duration timeout) {
+        this(replaySize, maxSubscribers, maxPending, timeout, System.currentTimeMillis() << BOOT_SHIFT);
+    }
+
+    public TaskChangeFeed(int replaySize, int maxSubscribers, int maxPending, Duration timeout, long firstSeq) {
+        this.ring = new FeedEvent[replaySize];
+        this.firstSeq = firstSeq;
+        this.nextSeq = firstSeq;
+        this.maxSubscribers = maxSubscribers;
+        this.maxPending = maxPending;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("tasks.feed.subscribers", subscribers, Set::size)
+                .description("Open task feed connections")
+                .register(registry);
+        FunctionCounter.builder("tasks.feed.coalesced", coalesced, LongAdder::sum)
+                .description("Changes replaced by a newer change to the same task before delivery")
+                .register(registry);
+        FunctionCounter.builder("tasks.feed.overflowed", overflowed, LongAdder::sum)
+                .description("Subscribers reset because they fell too far behind")
+                .register(registry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        publish(List.of(new TaskChangeDto(event.type(), event.id(), event.task().getStatus(),
+                event.previousStatus(), event.task())));
+    }
+
+    // The event names only the rows the update changed, so tasks already in the status are not announced
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksBulkUpdated(TasksBulkUpdatedEvent event) {
+        List<TaskChangeDto> changes = new ArrayList<>(event.ids().size());
+        for (String id : event.ids()) {
+            changes.add(new TaskChangeDto(TaskChangedEvent.Type.UPDATED, id, event.status(), null, null));
+        }
+        publish(changes);
+    }
+
+    /**
+     * Opens a subscription. Empty statuses or ids match every task; a change matches a status when
+     * the task moved into or out of it.
+     */
+    public SseEmitter subscribe(Set<TaskStatus> statuses, Set<String> ids, Long lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many feed subscribers");
+        }
+        SseEmitter emitter = createEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, statuses, ids);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        // Replay and registration happen under the ring lock so nothing published in between is missed
+        synchronized (ring) {
+            if (lastEventId != null) {
+                long oldest = Math.max(firstSeq, nextSeq - ring.length);
+                // Evicted from the ring, handed out by an earlier run, or never handed out at all
+                boolean unknown = lastEventId + 1 < oldest || lastEventId >= nextSeq;
+                if (unknown) {
+                    subscriber.reset();
+                }
+                List<FeedEvent> replay = new ArrayList<>();
+                for (long seq = unknown ? oldest : lastEventId + 1; seq < nextSeq; seq++) {
+                    replay.add(ring[slot(seq)]);
+                }
+                subscriber.enqueue(replay);
+            } else {
+                subscriber.skipTo(nextSeq - 1);
+            }
+            subscribers.add(subscriber);
+        }
+        return emitter;
+    }
+
+    // Keeps idle connections open through proxies and finds clients that have gone away
+    @Scheduled(fixedDelayString = "${tasks.feed.heartbeat-interval:30s}", initialDelayString = "${tasks.feed.heartbeat-interval:30s}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeat();
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void destroy() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        dispatcher.shutdownNow();
+    }
+
+    protected SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    // Fan-out stays under the ring lock: a subscriber skips anything at or below the last sequence it
+    // queued, so events from two concurrent publishes must reach it in sequence order. Enqueueing only
+    // touches the subscriber's pending map; sending happens on its own virtual thread
+    private void publish(List<TaskChangeDto> changes) {
+        List<FeedEvent> events = new ArrayList<>(changes.size());
+        synchronized (ring) {
+            for (TaskChangeDto change : changes) {
+                FeedEvent event = new FeedEvent(nextSeq, change);
+                ring[slot(nextSeq)] = event;
+                nextSeq++;
+                events.add(event);
+            }
+            for (Subscriber subscriber : subscribers) {
+                subscriber.enqueue(events);
+            }
+        }
+    }
+
+    private int slot(long seq) {
+        return (int) (seq % ring.length);
+    }
+
+    private record FeedEvent(long seq, TaskChangeDto change) {
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Set<TaskStatus> statuses;
+        private final Set<String> ids;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        // Guarded by this; insertion order is sequence order because a newer change is re-inserted
+        private final Map<String, FeedEvent> pending = new LinkedHashMap<>();
+        private long lastQueued;
+        private boolean resetDue;
+        private boolean heartbeatDue;
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, Set<TaskStatus> statuses, Set<String> ids) {
+            this.emitter = emitter;
+            this.statuses = statuses;
+            this.ids = ids;
+        }
+
+        private synchronized void skipTo(long seq) {
+            lastQueued = seq;
+        }
+
+        private void enqueue(List<FeedEvent> events) {
+            synchronized (this) {
+                for (FeedEvent event : events) {
+                    // A change published while this subscriber was registering arrives through replay and fan-out
+                    if (event.seq() <= lastQueued) {
+                        continue;
+                    }
+                    lastQueued = event.seq();
+                    if (!matches(event.change())) {
+                        continue;
+                    }
+                    if (pending.remove(event.change().getId()) != null) {
+                        coalesced.increment();
+                    }
+                    pending.put(event.change().getId(), event);
+                }
+                if (pending.size() > maxPending) {
+                    pending.clear();
+                    resetDue = true;
+                    overflowed.increment();
+                }
+            }
+            schedule();
+        }
+
+        private void reset() {
+            synchronized (this) {
+                resetDue = true;
+            }
+            schedule();
+        }
+
+        private void heartbeat() {
+            synchronized (this) {
+                heartbeatDue = true;
+            }
+            schedule();
+        }
+
+        private boolean matches(TaskChangeDto change) {
+            if (!ids.isEmpty() && !ids.contains(change.getId())) {
+                return false;
+            }
+            return statuses.isEmpty()
+                    || statuses.contains(change.getStatus())
+                    || (change.getPreviousStatus() != null && statuses.contains(change.getPreviousStatus()));
+        }
+
+        private void schedule() {
+            if (!closed && scheduled.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (!closed) {
+                List<FeedEvent> batch;
+                boolean sendReset;
+                boolean sendHeartbeat;
+                synchronized (this) {
+                    if (pending.isEmpty() && !resetDue && !heartbeatDue) {
+                        scheduled.set(false);
+                        return;
+                    }
+                    batch = new ArrayList<>(pending.values());
+                    pending.clear();
+                    sendReset = resetDue;
+                    sendHeartbeat = heartbeatDue && batch.isEmpty() && !sendReset;
+                    resetDue = false;
+                    heartbeatDue = false;
+                }
+                try {
+                    if (sendReset) {
+                        emitter.send(SseEmitter.event().name(RESET_EVENT).data("{}", MediaType.APPLICATION_JSON));
+                    }
+                    for (FeedEvent event : batch) {
+                        emitter.send(SseEmitter.event()
+                                .id(Long.toString(event.seq()))
+                                .name(event.change().getType().name().toLowerCase())
+                                .data(event.change(), MediaType.APPLICATION_JSON));
+                    }
+                    if (sendHeartbeat) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    }
+                } catch (Exception e) {
+                    // The client has gone away or the emitter already completed
+                    close();
+                }
+            }
+            scheduled.set(false);
+        }
+
+        private void close() {
+            closed = true;
+            subscribers.remove(this);
+            emitter.complete();
+        }
+    }
+}
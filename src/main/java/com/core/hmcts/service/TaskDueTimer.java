@@ -0,0 +1,278 @@
+package com.core.hmcts.service;
+
+import com.core.hmcts.event.TaskChangedEvent;
+import com.core.hmcts.event.TaskOverdueEvent;
+import com.core.hmcts.event.TasksBulkUpdatedEvent;
+import com.core.hmcts.model.dao.ReadWriteRoutingDataSource;
+import com.core.hmcts.model.dao.TasksDao;
+import com.core.hmcts.model.entity.Tasks;
+import com.core.hmcts.model.entity.Tasks.TaskStatus;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Marks open tasks overdue the moment their due date passes, without polling tbl_tasks. Due dates of
+ * open tasks sit in a timing wheel, loaded once at startup and kept current by task change events;
+ * a ticker thread advances the wheel every tick and publishes a TaskOverdueEvent for each task that
+ * expires. Completing or deleting a task cancels its entry in constant time.
+ */
+@Component
+public class TaskDueTimer implements SmartLifecycle, MeterBinder {
+    private static final Logger log = LoggerFactory.getLogger(TaskDueTimer.class);
+    // Keeps IN lists for bulk lookups well inside every database's parameter limit
+    private static final int LOOKUP_CHUNK_SIZE = 500;
+
+    // Guarded by this, together with dueDates, loading and changedDuringLoad
+    private final TimingWheel<String> wheel;
+    private final Map<String, LocalDateTime> dueDates = new HashMap<>();
+    private final Set<String> changedDuringLoad = new HashSet<>();
+    private boolean loading;
+    private final Set<String> overdue = ConcurrentHashMap.newKeySet();
+    private final LongAdder fired = new LongAdder();
+    private final TasksDao tasksDao;
+    private final boolean loadOnPrimary;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final long tickMillis;
+    private volatile boolean running;
+    private volatile Thread ticker;
+
+    @Autowired
+    public TaskDueTimer(TasksDao tasksDao, PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher,
+                        @Value("${tasks.overdue.tick:1s}") Duration tick,
+                        @Value("${tasks.overdue.wheel-size:64}") int wheelSize,
+                        @Value("${tasks.datasource.bulk-reads-on-primary:false}") boolean loadOnPrimary) {
+        this(tasksDao, transactionManager, eventPublisher, Clock.systemDefaultZone(), tick, wheelSize, loadOnPrimary);
+    }
+
+    public TaskDueTimer(TasksDao tasksDao, PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher,
+                        Clock clock, Duration tick, int wheelSize, boolean loadOnPrimary) {
+        this.tasksDao = tasksDao;
+        this.loadOnPrimary = loadOnPrimary;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.tickMillis = tick.toMillis();
+        this.wheel = new TimingWheel<>(tickMillis, wheelSize, clock.millis());
+    }
+
+    // Tasks already past due at startup are counted as overdue but not announced again
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        synchronized (this) {
+            loading = true;
+        }
+        // Only replicas that can lag need the primary; otherwise the scan stays off the writer pool
+        boolean wasPinned = loadOnPrimary ? ReadWriteRoutingDataSource.pinToPrimary() : ReadWriteRoutingDataSource.isPinnedToPrimary();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<TasksDao.TaskDueDate> rows = tasksDao.streamDueDatesByStatusNot(TaskStatus.COMPLETED)) {
+                    rows.forEach(row -> loadOne(row.getId(), row.getDueDate()));
+                }
+            });
+        } finally {
+            ReadWriteRoutingDataSource.unpin(wasPinned);
+            synchronized (this) {
+                loading = false;
+                changedDuringLoad.clear();
+            }
+        }
+        log.info("Tracking {} open tasks for due dates, {} already overdue", scheduledCount(), overdue.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Tasks task = event.task();
+        if (event.type() == TaskChangedEvent.Type.DELETED || task.getStatus() == TaskStatus.COMPLETED) {
+            untrack(event.id());
+        } else {
+            track(event.id(), task.getDueDate());
+        }
+    }
+
+    // Set-based updates carry no due dates, so only tasks reopened by the update are looked up
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksBulkUpdated(TasksBulkUpdatedEvent event) {
+        if (event.status() == TaskStatus.COMPLETED) {
+            event.ids().forEach(this::untrack);
+            return;
+        }
+        List<String> reopened = new ArrayList<>();
+        synchronized (this) {
+            for (String id : event.ids()) {
+                if (!wheel.contains(id) && !overdue.contains(id)) {
+                    reopened.add(id);
+                }
+            }
+        }
+        for (int from = 0; from < reopened.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = reopened.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, reopened.size()));
+            for (TasksDao.TaskDueDate row : tasksDao.findDueDatesByIdIn(chunk)) {
+                track(row.getId(), row.getDueDate());
+            }
+        }
+    }
+
+    /**
+     * Fires every task whose due date has passed. Called by the ticker thread each tick.
+     */
+    public void tick() {
+        List<TaskOverdueEvent> events = new ArrayList<>();
+        synchronized (this) {
+            for (String id : wheel.advanceTo(clock.millis())) {
+                LocalDateTime dueDate = dueDates.remove(id);
+                if (overdue.add(id)) {
+                    events.add(new TaskOverdueEvent(id, dueDate));
+                }
+            }
+        }
+        events.forEach(this::publish);
+    }
+
+    public boolean isOverdue(String id) {
+        return overdue.contains(id);
+    }
+
+    public int overdueCount() {
+        return overdue.size();
+    }
+
+    public synchronized int scheduledCount() {
+        return wheel.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("tasks.overdue", overdue, Set::size)
+                .description("Open tasks past their due date")
+                .register(registry);
+        Gauge.builder("tasks.overdue.scheduled", this, TaskDueTimer::scheduledCount)
+                .description("Open tasks waiting for their due date")
+                .register(registry);
+        FunctionCounter.builder("tasks.overdue.fired", fired, LongAdder::sum)
+                .description("Overdue events published")
+                .register(registry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        ticker = Thread.ofPlatform().name("task-due-timer").daemon(true).start(this::runTicker);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = ticker;
+        LockSupport.unpark(current);
+        try {
+            current.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runTicker() {
+        while (running) {
+            try {
+                tick();
+            } catch (RuntimeException e) {
+                log.error("Overdue tick failed", e);
+            }
+            long now = clock.millis();
+            long nextTick = (Math.floorDiv(now, tickMillis) + 1) * tickMillis;
+            LockSupport.parkNanos(this, Duration.ofMillis(nextTick - now).toNanos());
+        }
+    }
+
+    private synchronized void loadOne(String id, LocalDateTime dueDate) {
+        // An event has already recorded a newer state than the row being streamed
+        if (changedDuringLoad.contains(id) || dueDate == null) {
+            return;
+        }
+        if (wheel.schedule(id, deadline(dueDate))) {
+            dueDates.put(id, dueDate);
+        } else {
+            overdue.add(id);
+        }
+    }
+
+    private void track(String id, LocalDateTime dueDate) {
+        if (dueDate == null) {
+            untrack(id);
+            return;
+        }
+        boolean becameOverdue;
+        synchronized (this) {
+            if (loading) {
+                changedDuringLoad.add(id);
+            }
+            if (wheel.schedule(id, deadline(dueDate))) {
+                dueDates.put(id, dueDate);
+                overdue.remove(id);
+                return;
+            }
+            dueDates.remove(id);
+            becameOverdue = overdue.add(id);
+        }
+        if (becameOverdue) {
+            publish(new TaskOverdueEvent(id, dueDate));
+        }
+    }
+
+    private void untrack(String id) {
+        synchronized (this) {
+            if (loading) {
+                changedDuringLoad.add(id);
+            }
+            wheel.cancel(id);
+            dueDates.remove(id);
+        }
+        overdue.remove(id);
+    }
+
+    private void publish(TaskOverdueEvent event) {
+        fired.increment();
+        log.debug("Task {} is overdue since {}", event.id(), event.dueDate());
+        eventPublisher.publishEvent(event);
+    }
+
+    private long deadline(LocalDateTime dueDate) {
+        return dueDate.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,37 @@
+package com.core.hmcts.service;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public interface TaskExportService {
+    ResponseEntity<StreamingResponseBody> exportTasks(Format format);
+
+    enum Format {
+        NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+        CSV("csv", MediaType.parseMediaType("text/csv"));
+
+        private final String extension;
+        private final MediaType mediaType;
+
+        Format(String extension, MediaType mediaType) {
+            this.extension = extension;
+            this.mediaType = mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public static Optional<Format> fromParameter(String value) {
+            return Arrays.stream(values()).filter(format -> format.extension.equalsIgnoreCase(value)).findFirst();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.core.hmcts.service;
+
+import com.core.hmcts.model.dao.TasksDao;
+import com.core.hmcts.model.entity.Tasks;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class TaskExportServiceImpl implements TaskExportService {
+    private static final int FLUSH_INTERVAL = 500;
+    private static final DateTimeFormatter DUE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    static final String CSV_HEADER = "id,title,description,status,dueDate,createdAt,updatedAt\n";
+
+    private final TasksDao tasksDao;
+
+    private final EntityManager entityManager;
+
+    private final ObjectMapper objectMapper;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public TaskExportServiceImpl(TasksDao tasksDao, EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.tasksDao = tasksDao;
+        this.entityManager = entityManager;
+        // Not Boot's ObjectMapper bean: serialise exactly like the other /tasks responses, whose
+        // @EnableWebMvc converters use a plain builder (timestamps as epoch millis)
+        this.objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportTasks(Format format) {
+        // The body runs on an async thread after the handler returns, so the stream gets its own transaction there
+        StreamingResponseBody body = out -> transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Tasks> tasks = tasksDao.streamAllOrdered()) {
+                if (format == Format.CSV) {
+                    writeCsv(tasks.iterator(), out);
+                } else {
+                    writeNdjson(tasks.iterator(), out);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + format.getExtension() + "\"")
+                .body(body);
+    }
+
+    private void writeNdjson(Iterator<Tasks> tasks, OutputStream out) throws IOException {
+        int written = 0;
+        while (tasks.hasNext()) {
+            Tasks task = tasks.next();
+            out.write(objectMapper.writeValueAsBytes(task));
+            out.write('\n');
+            entityManager.detach(task);
+            if (++written % FLUSH_INTERVAL == 0) {
+                out.flush();
+            }
+        }
+        out.flush();
+    }
+
+    private void writeCsv(Iterator<Tasks> tasks, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        int written = 0;
+        while (tasks.hasNext()) {
+            Tasks task = tasks.next();
+            writer.write(csvRow(task));
+            entityManager.detach(task);
+            if (++written % FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+    }
+
+    // One CSV line per task; the reactive export emits these as they are, the servlet export writes them to the stream
+    static String csvRow(Tasks task) {
+        return csv(task.getId()) + ',' + csv(task.getTitle()) + ',' + csv(task.getDescription()) + ','
+                + (task.getStatus() == null ? "" : task.getStatus().name()) + ','
+                + (task.getDueDate() == null ? "" : DUE_DATE_FORMAT.format(task.getDueDate())) + ','
+                + instant(task.getCreatedAt()) + ',' + instant(task.getUpdatedAt()) + '\n';
+    }
+
+    private static String instant(Timestamp timestamp) {
+        return timestamp == null ? "" : timestamp.toInstant().toString();
+    }
+
+    static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        return quote ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+}
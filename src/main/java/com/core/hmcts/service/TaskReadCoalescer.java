@@ -0,0 +1,136 @@
+package com.core.hmcts.service;
+
+import com.core.hmcts.event.TaskChangedEvent;
+import com.core.hmcts.event.TasksBulkUpdatedEvent;
+import com.core.hmcts.model.dao.ReadWriteRoutingDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight for task reads: callers asking for the same task, or the same page, while a load for
+ * it is already running wait for that load and share its result instead of issuing the query again.
+ * Nothing is kept once the load finishes, so this only removes duplicate concurrent queries; caching
+ * stays with TaskCache. Results are shared between requests and must not be modified.
+ * <p>
+ * A committed change forgets the in-flight loads it may affect, so a caller arriving after the commit
+ * starts a fresh load rather than joining one that could have read the old rows.
+ * <p>
+ * Callers pinned to the primary for read-your-writes never share a load: one in flight may be reading
+ * a lagging replica, or may have started before the caller's own write, possibly on another instance.
+ */
+@Component
+public class TaskReadCoalescer implements MeterBinder {
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder taskLoads = new LongAdder();
+    private final LongAdder taskShared = new LongAdder();
+    private final LongAdder pageLoads = new LongAdder();
+    private final LongAdder pageShared = new LongAdder();
+
+    /**
+     * Loads one task, or a view of it named by variant (null for the whole task), sharing the load
+     * with concurrent callers for the same id and variant.
+     */
+    public <T> T task(String id, Object variant, Supplier<T> loader) {
+        return load(new TaskKey(id, variant), loader, taskLoads, taskShared);
+    }
+
+    /**
+     * Loads a list of tasks, sharing the load with concurrent callers whose query key is equal. The key
+     * must identify everything that shapes the result: filter, paging, sort and selected fields.
+     */
+    public <T> T page(Object query, Supplier<T> loader) {
+        return load(new PageKey(query), loader, pageLoads, pageShared);
+    }
+
+    public long saved() {
+        return taskShared.sum() + pageShared.sum();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T load(Object key, Supplier<T> loader, LongAdder loads, LongAdder shared) {
+        if (ReadWriteRoutingDataSource.isPinnedToPrimary()) {
+            loads.increment();
+            return loader.get();
+        }
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, mine);
+        if (leader != null) {
+            shared.increment();
+            try {
+                return (T) leader.join();
+            } catch (CompletionException e) {
+                // Followers fail the same way the leader did
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        loads.increment();
+        try {
+            T value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            // Conditional: a change may already have replaced this entry with a newer load
+            inFlight.remove(key, mine);
+        }
+    }
+
+    // Any change can move a task into or out of any page, so every page load in flight is forgotten
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        String id = event.id();
+        inFlight.keySet().removeIf(key -> key instanceof PageKey || key instanceof TaskKey task && task.id().equals(id));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksBulkUpdated(TasksBulkUpdatedEvent event) {
+        inFlight.keySet().removeIf(key -> key instanceof PageKey || key instanceof TaskKey task && event.ids().contains(task.id()));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("tasks.reads.inflight", inFlight, ConcurrentHashMap::size)
+                .description("Distinct task reads currently loading")
+                .register(registry);
+        FunctionCounter.builder("tasks.reads.loads", taskLoads, LongAdder::sum)
+                .tag("read", "task")
+                .description("Task reads that went to the database")
+                .register(registry);
+        FunctionCounter.builder("tasks.reads.loads", pageLoads, LongAdder::sum)
+                .tag("read", "page")
+                .description("Task reads that went to the database")
+                .register(registry);
+        FunctionCounter.builder("tasks.reads.coalesced", taskShared, LongAdder::sum)
+                .tag("read", "task")
+                .description("Task reads answered by a concurrent identical load instead of their own")
+                .register(registry);
+        FunctionCounter.builder("tasks.reads.coalesced", pageShared, LongAdder::sum)
+                .tag("read", "page")
+                .description("Task reads answered by a concurrent identical load instead of their own")
+                .register(registry);
+    }
+
+    private record TaskKey(String id, Object variant) {
+    }
+
+    private record PageKey(Object query) {
+    }
+}
@@ -0,0 +1,287 @@
+package com.core.hmcts.service;
+
+import com.core.hmcts.event.TaskChangedEvent;
+import com.core.hmcts.event.TasksArchivedEvent;
+import com.core.hmcts.event.TasksBulkUpdatedEvent;
+import com.core.hmcts.model.dao.ReadWriteRoutingDataSource;
+import com.core.hmcts.model.dao.TasksDao;
+import com.core.hmcts.model.dto.TaskSearchHitDto;
+import com.core.hmcts.model.entity.Tasks;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index over task titles and descriptions, ranked with BM25. Built once at
+ * startup and then kept current from task change events, so searches never touch the database.
+ */
+@Component
+public class TaskSearchIndex {
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchIndex.class);
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // Title terms count twice so a hit in the title outranks the same hit in a long description
+    private static final int TITLE_WEIGHT = 2;
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it",
+            "of", "on", "or", "that", "the", "to", "was", "with");
+
+    private final Map<String, Map<String, Integer>> postings = new HashMap<>();
+    private final Map<String, Document> documents = new HashMap<>();
+    private final Set<String> removedDuringRebuild = new HashSet<>();
+    // A bulk update carries no version, so the rebuild could index a row it read before the update
+    private final Map<String, Tasks.TaskStatus> bulkUpdatedDuringRebuild = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+    private boolean rebuilding;
+
+    private final TasksDao tasksDao;
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean rebuildOnPrimary;
+
+    public TaskSearchIndex(TasksDao tasksDao, EntityManager entityManager, PlatformTransactionManager transactionManager,
+                           @Value("${tasks.datasource.bulk-reads-on-primary:false}") boolean rebuildOnPrimary) {
+        this.tasksDao = tasksDao;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.rebuildOnPrimary = rebuildOnPrimary;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.nanoTime();
+        withWriteLock(() -> rebuilding = true);
+        // Read from the primary so the index does not start behind a lagging replica; without replicas
+        // that can lag the scan stays off the writer pool, which may hold a single connection
+        boolean wasPinned = rebuildOnPrimary ? ReadWriteRoutingDataSource.pinToPrimary() : ReadWriteRoutingDataSource.isPinnedToPrimary();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<Tasks> tasks = tasksDao.streamAllOrdered()) {
+                    tasks.forEach(task -> {
+                        withWriteLock(() -> {
+                            if (!removedDuringRebuild.contains(task.getId())) {
+                                put(task);
+                            }
+                        });
+                        entityManager.detach(task);
+                    });
+                }
+            });
+        } finally {
+            ReadWriteRoutingDataSource.unpin(wasPinned);
+            withWriteLock(() -> {
+                bulkUpdatedDuringRebuild.forEach((id, status) -> {
+                    Document document = documents.get(id);
+                    if (document != null) {
+                        documents.put(id, document.withStatus(status));
+                    }
+                });
+                rebuilding = false;
+                removedDuringRebuild.clear();
+                bulkUpdatedDuringRebuild.clear();
+            });
+        }
+        log.info("Indexed {} tasks for search in {} ms", size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        withWriteLock(() -> {
+            if (event.type() == TaskChangedEvent.Type.DELETED) {
+                remove(event.id());
+                if (rebuilding) {
+                    removedDuringRebuild.add(event.id());
+                }
+            } else {
+                put(event.task());
+            }
+            if (rebuilding) {
+                // The event carries the whole task, so an earlier bulk status is already superseded
+                bulkUpdatedDuringRebuild.remove(event.id());
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksBulkUpdated(TasksBulkUpdatedEvent event) {
+        withWriteLock(() -> {
+            for (String id : event.ids()) {
+                Document document = documents.get(id);
+                if (document != null) {
+                    documents.put(id, document.withStatus(event.status()));
+                }
+                if (rebuilding) {
+                    bulkUpdatedDuringRebuild.put(id, event.status());
+                }
+            }
+        });
+    }
+
+    // Archived tasks are no longer indexed, matching what a rebuild from tbl_tasks would load
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksArchived(TasksArchivedEvent event) {
+        withWriteLock(() -> {
+            for (String id : event.ids()) {
+                remove(id);
+                if (rebuilding) {
+                    removedDuringRebuild.add(id);
+                }
+            }
+        });
+    }
+
+    public List<TaskSearchHitDto> search(String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / documents.size();
+            Map<String, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Map<String, Integer> termPostings = postings.get(term);
+                if (termPostings == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documents.size() - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+                for (Map.Entry<String, Integer> posting : termPostings.entrySet()) {
+                    int frequency = posting.getValue();
+                    int length = documents.get(posting.getKey()).length();
+                    double score = idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+                    scores.merge(posting.getKey(), score, Double::sum);
+                }
+            }
+
+            PriorityQueue<Map.Entry<String, Double>> top = new PriorityQueue<>(Map.Entry.comparingByValue());
+            for (Map.Entry<String, Double> score : scores.entrySet()) {
+                top.offer(score);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            List<TaskSearchHitDto> hits = new ArrayList<>(top.size());
+            for (Map.Entry<String, Double> score : top) {
+                Document document = documents.get(score.getKey());
+                hits.add(new TaskSearchHitDto(document.id(), document.title(), document.status(), document.dueDate(), score.getValue()));
+            }
+            hits.sort(Comparator.comparingDouble(TaskSearchHitDto::getScore).reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Callers hold the write lock
+    private void put(Tasks task) {
+        Document existing = documents.get(task.getId());
+        long version = task.getUpdatedAt() == null ? 0 : task.getUpdatedAt().getTime();
+        if (existing != null && existing.version() > version) {
+            // A rebuild read this row before a newer change was indexed
+            return;
+        }
+        remove(task.getId());
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : tokenize(task.getTitle())) {
+            frequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : tokenize(task.getDescription())) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        int length = 0;
+        for (Map.Entry<String, Integer> frequency : frequencies.entrySet()) {
+            postings.computeIfAbsent(frequency.getKey(), term -> new HashMap<>()).put(task.getId(), frequency.getValue());
+            length += frequency.getValue();
+        }
+        documents.put(task.getId(), new Document(task.getId(), task.getTitle(), task.getStatus(), task.getDueDate(),
+                version, length, frequencies.keySet()));
+        totalLength += length;
+    }
+
+    private void remove(String id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms()) {
+            Map<String, Integer> termPostings = postings.get(term);
+            if (termPostings != null) {
+                termPostings.remove(id);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= document.length();
+    }
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (token.length() > 1 && !STOP_WORDS.contains(token)) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+
+    private record Document(String id, String title, Tasks.TaskStatus status, LocalDateTime dueDate,
+                            long version, int length, Set<String> terms) {
+        Document withStatus(Tasks.TaskStatus newStatus) {
+            return new Document(id, title, newStatus, dueDate, version, length, terms);
+        }
+    }
+}
@@ -1,14 +1,28 @@
 package com.core.hmcts.service;
 
+import com.core.hmcts.model.dto.BulkStatusUpdateDto;
 import com.core.hmcts.model.dto.CreateTaskDto;
+import com.core.hmcts.model.dto.TaskFilterDto;
 import com.core.hmcts.model.dto.UpdateTaskDto;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
+
 public interface TaskService {
     ResponseEntity<?> addTask(CreateTaskDto task);
+    ResponseEntity<?> addTasks(List<CreateTaskDto> tasks);
     ResponseEntity<?> deleteTask(String id);
     ResponseEntity<?> getTask(String id);
+    ResponseEntity<?> getTask(String id, String fields);
+    String getTaskEtag(String id);
     ResponseEntity<?> getTasks(Pageable pageable);
+    ResponseEntity<?> getTasks(TaskFilterDto filter, Pageable pageable);
+    ResponseEntity<?> getTasks(TaskFilterDto filter, Pageable pageable, String fields);
+    String getTasksEtag(Pageable pageable);
+    ResponseEntity<?> scrollTasks(String after, String before, int size);
+    ResponseEntity<?> searchTasks(String query, int limit);
+    ResponseEntity<?> getStatistics();
     ResponseEntity<?> updateTask(String id, UpdateTaskDto updateTaskDto);
+    ResponseEntity<?> bulkUpdateStatus(BulkStatusUpdateDto bulkStatusUpdateDto);
 }
@@ -1,90 +1,522 @@
 package com.core.hmcts.service;
 
+import com.core.hmcts.event.TaskChangedEvent;
+import com.core.hmcts.event.TasksBulkUpdatedEvent;
 import com.core.hmcts.handler.DataResponse;
+import com.core.hmcts.handler.TaskCursor;
+import com.core.hmcts.handler.TaskEtags;
+import com.core.hmcts.model.dao.ArchivedTasksDao;
+import com.core.hmcts.model.dao.ReadWriteRoutingDataSource;
+import com.core.hmcts.model.dao.TaskField;
+import com.core.hmcts.model.dao.TaskSpecifications;
 import com.core.hmcts.model.dao.TasksDao;
+import com.core.hmcts.model.dto.BatchItemResultDto;
+import com.core.hmcts.model.dto.BulkStatusUpdateDto;
+import com.core.hmcts.model.dto.BulkUpdateResultDto;
 import com.core.hmcts.model.dto.CreateTaskDto;
+import com.core.hmcts.model.dto.CursorPageDto;
+import com.core.hmcts.model.dto.TaskFilterDto;
 import com.core.hmcts.model.dto.UpdateTaskDto;
+import com.core.hmcts.model.entity.ArchivedTasks;
 import com.core.hmcts.model.entity.Tasks;
-import org.springframework.data.domain.Page;
+import com.core.hmcts.model.entity.UuidV7Generator;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.net.URI;
+import java.sql.Timestamp;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 @Service
 public class TaskServiceImpl implements TaskService{
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_BATCH_SIZE = 1000;
+    // Matches spring.jpa.properties.hibernate.jdbc.batch_size
+    static final int BATCH_CHUNK_SIZE = 50;
+    static final int MAX_BULK_SIZE = 10_000;
+    // Keeps each UPDATE ... WHERE id IN (...) list well inside driver and optimizer limits
+    static final int BULK_UPDATE_CHUNK_SIZE = 500;
+    // DateTimeFormatter is immutable and thread-safe, so one instance serves every request
+    private static final DateTimeFormatter DUE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
+    private static final String TASKS_PATH = "/tasks/";
+
     private final DataResponse dataResponse;
 
     private final TasksDao tasksDao;
 
-    public TaskServiceImpl(DataResponse dataResponse, TasksDao tasksDao) {
+    private final ArchivedTasksDao archivedTasksDao;
+
+    private final TaskBatchWriter taskBatchWriter;
+
+    private final Validator validator;
+
+    private final TaskCache taskCache;
+
+    private final TaskSearchIndex taskSearchIndex;
+
+    private final TaskStatistics taskStatistics;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final TaskReadCoalescer readCoalescer;
+
+    // Present only when tasks.ingest.write-behind is enabled
+    private final TaskWriteBehindQueue writeBehindQueue;
+
+    public TaskServiceImpl(DataResponse dataResponse, TasksDao tasksDao, ArchivedTasksDao archivedTasksDao,
+                           TaskBatchWriter taskBatchWriter, Validator validator,
+                           TaskCache taskCache, TaskSearchIndex taskSearchIndex, TaskStatistics taskStatistics,
+                           ApplicationEventPublisher eventPublisher, TaskReadCoalescer readCoalescer,
+                           @Nullable TaskWriteBehindQueue writeBehindQueue) {
         this.dataResponse = dataResponse;
         this.tasksDao = tasksDao;
+        this.archivedTasksDao = archivedTasksDao;
+        this.taskBatchWriter = taskBatchWriter;
+        this.validator = validator;
+        this.taskCache = taskCache;
+        this.taskSearchIndex = taskSearchIndex;
+        this.taskStatistics = taskStatistics;
+        this.eventPublisher = eventPublisher;
+        this.readCoalescer = readCoalescer;
+        this.writeBehindQueue = writeBehindQueue;
     }
 
 
     @Override
+    @Timed(value = "tasks.service", extraTags = {"operation", "addTask"})
     public ResponseEntity<?> addTask(CreateTaskDto task) {
+        if (writeBehindQueue != null) {
+            return acceptTask(task);
+        }
         Tasks tasks = new Tasks();
         tasks.setTitle(task.getTitle());
         tasks.setDescription(task.getDescription());
         tasks.setDueDate(dateTimeFormatter(task.getDueDate()));
         tasksDao.save(tasks);
+        eventPublisher.publishEvent(TaskChangedEvent.created(tasks));
 
-        // Construct URI for the created resource
-        URI location = ServletUriComponentsBuilder
-                .fromCurrentRequest()
-                .path("/{id}")
-                .buildAndExpand(tasks.getId())
-                .toUri();
+        // A relative reference to the new task; rebuilding the absolute request URL costs far more
+        URI location = URI.create(TASKS_PATH + tasks.getId());
         return ResponseEntity.created(location).body(dataResponse.responseData(201, "Task created successfully", tasks));
     }
 
+    // Write-behind path: validated up front because the client is answered before the insert happens
+    private ResponseEntity<?> acceptTask(CreateTaskDto task) {
+        List<String> errors = validate(task);
+        if (!errors.isEmpty()) {
+            return ResponseEntity.badRequest().body(dataResponse.responseData(400, "Validation failed", errors));
+        }
+        Tasks tasks = new Tasks();
+        try {
+            tasks.setDueDate(dateTimeFormatter(task.getDueDate()));
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(dataResponse.responseData(400, "Due date must match yyyy-MM-dd'T'HH:mm", null));
+        }
+        tasks.setId(UuidV7Generator.nextId());
+        tasks.setTitle(task.getTitle());
+        tasks.setDescription(task.getDescription());
+        if (!writeBehindQueue.offer(tasks)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(dataResponse.responseData(503, "Task intake is full, retry shortly", null));
+        }
+        return ResponseEntity.accepted()
+                .location(URI.create(TASKS_PATH + tasks.getId()))
+                .body(dataResponse.responseData(202, "Task accepted", tasks));
+    }
+
+    @Override
+    @Timed(value = "tasks.service", extraTags = {"operation", "addTasks"})
+    public ResponseEntity<?> addTasks(List<CreateTaskDto> tasks) {
+        if (tasks == null || tasks.isEmpty()) {
+            return ResponseEntity.badRequest().body(dataResponse.responseData(400, "At least one task is required", null));
+        }
+        if (tasks.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().body(dataResponse.responseData(400, "A batch may contain at most " + MAX_BATCH_SIZE + " tasks", null));
+        }
+
+        BatchItemResultDto[] results = new BatchItemResultDto[tasks.size()];
+        List<Tasks> chunk = new ArrayList<>(BATCH_CHUNK_SIZE);
+        List<Integer> chunkIndexes = new ArrayList<>(BATCH_CHUNK_SIZE);
+        for (int i = 0; i < tasks.size(); i++) {
+            CreateTaskDto task = tasks.get(i);
+            List<String> errors = validate(task);
+            LocalDateTime dueDate = null;
+            if (errors.isEmpty()) {
+                try {
+                    dueDate = dateTimeFormatter(task.getDueDate());
+                } catch (DateTimeParseException e) {
+                    errors = List.of("dueDate: must match yyyy-MM-dd'T'HH:mm");
+                }
+            }
+            if (!errors.isEmpty()) {
+                results[i] = new BatchItemResultDto(i, 400, null, errors);
+                continue;
+            }
+            Tasks entity = new Tasks();
+            entity.setTitle(task.getTitle());
+            entity.setDescription(task.getDescription());
+            entity.setDueDate(dueDate);
+            chunk.add(entity);
+            chunkIndexes.add(i);
+            if (chunk.size() == BATCH_CHUNK_SIZE) {
+                persistChunk(chunk, chunkIndexes, results);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            persistChunk(chunk, chunkIndexes, results);
+        }
+
+        List<BatchItemResultDto> body = List.of(results);
+        boolean allCreated = body.stream().allMatch(result -> result.getStatus() == 201);
+        if (allCreated) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(dataResponse.responseData(201, "Tasks created successfully", body));
+        }
+        return ResponseEntity.status(HttpStatus.MULTI_STATUS).body(dataResponse.responseData(207, "Tasks processed with errors", body));
+    }
+
+    private void persistChunk(List<Tasks> chunk, List<Integer> chunkIndexes, BatchItemResultDto[] results) {
+        List<Tasks> saved;
+        try {
+            saved = taskBatchWriter.persist(chunk);
+        } catch (DataAccessException e) {
+            saved = null;
+        }
+        for (int i = 0; i < chunkIndexes.size(); i++) {
+            int index = chunkIndexes.get(i);
+            if (saved == null) {
+                results[index] = new BatchItemResultDto(index, 500, null, List.of("Task could not be saved"));
+                continue;
+            }
+            results[index] = new BatchItemResultDto(index, 201, saved.get(i).getId(), null);
+            eventPublisher.publishEvent(TaskChangedEvent.created(saved.get(i)));
+        }
+        chunk.clear();
+        chunkIndexes.clear();
+    }
+
+    private List<String> validate(CreateTaskDto task) {
+        if (task == null) {
+            return List.of("Task is required");
+        }
+        List<String> errors = new ArrayList<>();
+        for (ConstraintViolation<CreateTaskDto> violation : validator.validate(task)) {
+            errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        return errors;
+    }
+
     @Override
+    @Transactional
+    @Timed(value = "tasks.service", extraTags = {"operation", "deleteTask"})
     public ResponseEntity<?> deleteTask(String id) {
         Tasks tasks = tasksDao.findTasksById(id);
         if (Objects.isNull(tasks)) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(dataResponse.responseData(404, "Task not found", null));
         }
         tasksDao.delete(tasks);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(tasks));
         return ResponseEntity.status(HttpStatus.NO_CONTENT).body(dataResponse.responseData(204, "Task deleted successfully", null));
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @Timed(value = "tasks.service", extraTags = {"operation", "getTask"})
     public ResponseEntity<?> getTask(String id) {
-        Tasks tasks = tasksDao.findTasksById(id);
+        Tasks tasks;
+        if (ReadWriteRoutingDataSource.isPinnedToPrimary()) {
+            // Inside a read-your-writes window the cached copy may have come from a lagging replica
+            tasks = readCoalescer.task(id, null, () -> taskCache.refresh(id, this::findLiveOrArchived));
+        } else {
+            tasks = taskCache.getIfPresent(id);
+            if (tasks == null) {
+                // Concurrent misses for one id share a single lookup, including lookups for ids that do not exist
+                tasks = readCoalescer.task(id, null, () -> taskCache.get(id, this::findLiveOrArchived));
+            }
+        }
         if (Objects.isNull(tasks)) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(dataResponse.responseData(404, "Task not found", null));
         }
-        return ResponseEntity.ok().body(dataResponse.responseData(200, "Task retrieve successfully", tasks));
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok();
+        String etag = TaskEtags.forTask(tasks);
+        if (etag != null) {
+            ok.eTag(etag);
+        }
+        return ok.body(dataResponse.responseData(200, "Task retrieve successfully", tasks));
+    }
+
+    // Sparse responses carry no ETag: the version lookups validate the full representation only
+    @Override
+    @Transactional(readOnly = true)
+    @Timed(value = "tasks.service", extraTags = {"operation", "getTaskFields"})
+    public ResponseEntity<?> getTask(String id, String fields) {
+        Set<TaskField> selected;
+        try {
+            selected = TaskField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(dataResponse.responseData(400, e.getMessage(), null));
+        }
+        Map<String, Object> task;
+        Tasks cached = ReadWriteRoutingDataSource.isPinnedToPrimary() ? null : taskCache.getIfPresent(id);
+        if (cached != null) {
+            task = TaskField.project(cached, selected);
+        } else {
+            task = readCoalescer.task(id, selected, () -> {
+                Map<String, Object> live = tasksDao.findFieldsById(id, selected);
+                if (live != null) {
+                    return live;
+                }
+                return archivedTasksDao.findById(id).map(archived -> TaskField.project(archived.toTask(), selected)).orElse(null);
+            });
+        }
+        if (Objects.isNull(task)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(dataResponse.responseData(404, "Task not found", null));
+        }
+        return ResponseEntity.ok().body(dataResponse.responseData(200, "Task retrieve successfully", task));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Timed(value = "tasks.service", extraTags = {"operation", "getTaskEtag"})
+    public String getTaskEtag(String id) {
+        Tasks cached = ReadWriteRoutingDataSource.isPinnedToPrimary() ? null : taskCache.getIfPresent(id);
+        if (cached != null) {
+            return TaskEtags.forTask(cached);
+        }
+        Timestamp updatedAt = tasksDao.findUpdatedAtById(id);
+        if (updatedAt == null) {
+            updatedAt = archivedTasksDao.findUpdatedAtById(id);
+        }
+        return TaskEtags.forTask(id, updatedAt);
+    }
+
+    // Archived tasks are read-only: only reads fall back to the archive, updates and deletes see 404
+    private Tasks findLiveOrArchived(String id) {
+        Tasks tasks = tasksDao.findTasksById(id);
+        if (tasks != null) {
+            return tasks;
+        }
+        return archivedTasksDao.findById(id).map(ArchivedTasks::toTask).orElse(null);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @Timed(value = "tasks.service", extraTags = {"operation", "getTasks"})
     public ResponseEntity<?> getTasks(Pageable pageable) {
-        Page<Tasks> tasks = tasksDao.findAll(pageable);
-        return ResponseEntity.ok().body(dataResponse.responseData(200, "Tasks retrieve successfully", tasks.toList()));
+        List<Tasks> content = readCoalescer.page(new PageQuery(null, pageable, null), () -> tasksDao.findAll(pageable).toList());
+        return ResponseEntity.ok()
+                .eTag(TaskEtags.forTaskPage(pageable, content))
+                .body(dataResponse.responseData(200, "Tasks retrieve successfully", content));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Timed(value = "tasks.service", extraTags = {"operation", "getFilteredTasks"})
+    public ResponseEntity<?> getTasks(TaskFilterDto filter, Pageable pageable) {
+        if (filter == null || !filter.hasCriteria()) {
+            return getTasks(pageable);
+        }
+        List<Tasks> content = readCoalescer.page(new PageQuery(filter, pageable, null),
+                () -> tasksDao.findAll(TaskSpecifications.matching(filter), pageable).toList());
+        return ResponseEntity.ok()
+                .eTag(TaskEtags.forTaskPage(pageable, content))
+                .body(dataResponse.responseData(200, "Tasks retrieve successfully", content));
+    }
+
+    // Selects only the requested columns and skips the page COUNT, which the response never reports
+    @Override
+    @Transactional(readOnly = true)
+    @Timed(value = "tasks.service", extraTags = {"operation", "getTaskFieldsPage"})
+    public ResponseEntity<?> getTasks(TaskFilterDto filter, Pageable pageable, String fields) {
+        Set<TaskField> selected;
+        try {
+            selected = TaskField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(dataResponse.responseData(400, e.getMessage(), null));
+        }
+        TaskFilterDto criteria = filter != null && filter.hasCriteria() ? filter : null;
+        List<Map<String, Object>> content = readCoalescer.page(new PageQuery(criteria, pageable, selected),
+                () -> tasksDao.findFields(selected, criteria != null ? TaskSpecifications.matching(criteria) : null, pageable));
+        return ResponseEntity.ok().body(dataResponse.responseData(200, "Tasks retrieve successfully", content));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Timed(value = "tasks.service", extraTags = {"operation", "getTasksEtag"})
+    public String getTasksEtag(Pageable pageable) {
+        return TaskEtags.forVersionPage(pageable, tasksDao.findVersions(pageable).getContent());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Timed(value = "tasks.service", extraTags = {"operation", "scrollTasks"})
+    public ResponseEntity<?> scrollTasks(String after, String before, int size) {
+        if (after != null && before != null) {
+            return ResponseEntity.badRequest().body(dataResponse.responseData(400, "Only one of after or before may be supplied", null));
+        }
+        TaskCursor cursor;
+        try {
+            cursor = after != null ? TaskCursor.decode(after) : before != null ? TaskCursor.decode(before) : null;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(dataResponse.responseData(400, "Invalid cursor", null));
+        }
+
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        boolean backwards = before != null;
+        // Fetch one extra row to learn whether another page exists without counting
+        List<Tasks> rows;
+        if (cursor == null) {
+            rows = tasksDao.findFirstKeysetPage(Limit.of(limit + 1));
+        } else if (backwards) {
+            rows = tasksDao.findKeysetPageBefore(cursor.createdAt(), cursor.id(), Limit.of(limit + 1));
+        } else {
+            rows = tasksDao.findKeysetPageAfter(cursor.createdAt(), cursor.id(), Limit.of(limit + 1));
+        }
+
+        boolean hasMore = rows.size() > limit;
+        List<Tasks> items = new ArrayList<>(hasMore ? rows.subList(0, limit) : rows);
+        if (backwards) {
+            Collections.reverse(items);
+        }
+
+        String nextCursor = null;
+        String prevCursor = null;
+        if (!items.isEmpty()) {
+            String first = TaskCursor.of(items.get(0)).encode();
+            String last = TaskCursor.of(items.get(items.size() - 1)).encode();
+            nextCursor = backwards || hasMore ? last : null;
+            prevCursor = backwards ? (hasMore ? first : null) : (cursor != null ? first : null);
+        }
+        return ResponseEntity.ok().body(dataResponse.responseData(200, "Tasks retrieve successfully",
+                new CursorPageDto(items, nextCursor, prevCursor)));
+    }
+
+    @Override
+    @Timed(value = "tasks.service", extraTags = {"operation", "searchTasks"})
+    public ResponseEntity<?> searchTasks(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return ResponseEntity.badRequest().body(dataResponse.responseData(400, "Search query is required", null));
+        }
+        int size = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        return ResponseEntity.ok().body(dataResponse.responseData(200, "Tasks retrieve successfully", taskSearchIndex.search(query, size)));
     }
 
     @Override
+    @Timed(value = "tasks.service", extraTags = {"operation", "getStatistics"})
+    public ResponseEntity<?> getStatistics() {
+        return ResponseEntity.ok().body(dataResponse.responseData(200, "Task statistics retrieve successfully", taskStatistics.snapshot()));
+    }
+
+    @Override
+    @Transactional
+    @Timed(value = "tasks.service", extraTags = {"operation", "updateTask"})
     public ResponseEntity<?> updateTask(String id, UpdateTaskDto updateTaskDto) {
         Tasks tasks = tasksDao.findTasksById(id);
         if (Objects.isNull(tasks)) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(dataResponse.responseData(404, "Task not found", null));
         }
+        Tasks.TaskStatus previousStatus = tasks.getStatus();
         tasks.setStatus(updateTaskDto.getStatus());
         tasksDao.save(tasks);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(tasks, previousStatus));
         return ResponseEntity.ok().body(dataResponse.responseData(200, "Task updated successfully", tasks));
     }
 
+    @Override
+    @Transactional
+    @Timed(value = "tasks.service", extraTags = {"operation", "bulkUpdateStatus"})
+    public ResponseEntity<?> bulkUpdateStatus(BulkStatusUpdateDto bulk) {
+        if (bulk == null || bulk.getStatus() == null) {
+            return ResponseEntity.badRequest().body(dataResponse.responseData(400, "Target status is required", null));
+        }
+        boolean byIds = bulk.getIds() != null && !bulk.getIds().isEmpty();
+        boolean byFilter = bulk.getCurrentStatus() != null || bulk.getDueFrom() != null || bulk.getDueTo() != null;
+        if (byIds == byFilter) {
+            return ResponseEntity.badRequest().body(dataResponse.responseData(400, "Supply either ids or a filter", null));
+        }
+
+        List<String> ids;
+        long matched;
+        LocalDateTime dueFrom = null;
+        LocalDateTime dueTo = null;
+        if (byIds) {
+            ids = new ArrayList<>(new LinkedHashSet<>(bulk.getIds()));
+            if (ids.size() > MAX_BULK_SIZE) {
+                return ResponseEntity.badRequest().body(dataResponse.responseData(400, "At most " + MAX_BULK_SIZE + " tasks may be updated at once", null));
+            }
+            matched = 0;
+            for (List<String> chunk : chunks(ids)) {
+                matched += tasksDao.countByIdIn(chunk);
+            }
+        } else {
+            try {
+                dueFrom = bulk.getDueFrom() == null ? null : dateTimeFormatter(bulk.getDueFrom());
+                dueTo = bulk.getDueTo() == null ? null : dateTimeFormatter(bulk.getDueTo());
+            } catch (DateTimeParseException e) {
+                return ResponseEntity.badRequest().body(dataResponse.responseData(400, "Due dates must match yyyy-MM-dd'T'HH:mm", null));
+            }
+            ids = tasksDao.findIdsMatching(bulk.getCurrentStatus(), dueFrom, dueTo, Limit.of(MAX_BULK_SIZE + 1));
+            if (ids.size() > MAX_BULK_SIZE) {
+                return ResponseEntity.badRequest().body(dataResponse.responseData(400, "Filter matches more than " + MAX_BULK_SIZE + " tasks", null));
+            }
+            matched = ids.size();
+        }
+
+        // Rows are locked and re-checked against the filter before updating, so a task a concurrent
+        // writer moved out of currentStatus after findIdsMatching is left alone, and the event names
+        // exactly the rows that changed
+        Timestamp now = Timestamp.from(Instant.now());
+        List<String> updatedIds = new ArrayList<>();
+        long updated = 0;
+        for (List<String> chunk : chunks(ids)) {
+            List<String> changing = tasksDao.lockIdsForStatusUpdate(chunk, bulk.getStatus(), bulk.getCurrentStatus(), dueFrom, dueTo);
+            if (changing.isEmpty()) {
+                continue;
+            }
+            updated += tasksDao.updateStatusMatching(changing, bulk.getStatus(), bulk.getCurrentStatus(), dueFrom, dueTo, now);
+            updatedIds.addAll(changing);
+        }
+        if (updated > 0) {
+            eventPublisher.publishEvent(new TasksBulkUpdatedEvent(List.copyOf(updatedIds), bulk.getStatus()));
+        }
+        return ResponseEntity.ok().body(dataResponse.responseData(200, "Tasks updated successfully", new BulkUpdateResultDto(matched, updated)));
+    }
+
+    private static List<List<String>> chunks(List<String> ids) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += BULK_UPDATE_CHUNK_SIZE) {
+            chunks.add(ids.subList(i, Math.min(i + BULK_UPDATE_CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+
     private LocalDateTime dateTimeFormatter(String datetime){
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
-        return LocalDateTime.parse(datetime, formatter);
+        return LocalDateTime.parse(datetime, DUE_DATE_FORMAT);
+    }
+
+    // Everything that shapes a list response, so only identical queries share a load
+    private record PageQuery(TaskFilterDto filter, Pageable pageable, Set<TaskField> fields) {
     }
 
 }
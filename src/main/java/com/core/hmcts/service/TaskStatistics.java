@@ -0,0 +1,282 @@
+package com.core.hmcts.service;
+
+import com.core.hmcts.event.TaskChangedEvent;
+import com.core.hmcts.event.TasksArchivedEvent;
+import com.core.hmcts.event.TasksBulkUpdatedEvent;
+import com.core.hmcts.model.dao.ReadWriteRoutingDataSource;
+import com.core.hmcts.model.dao.TasksDao;
+import com.core.hmcts.model.dto.TaskStatisticsDto;
+import com.core.hmcts.model.entity.Tasks;
+import com.core.hmcts.model.entity.Tasks.TaskStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Task counts kept in striped counters so the stats endpoint never aggregates over tbl_tasks.
+ * Counters are seeded from the database at startup, moved by task change events and periodically
+ * reconciled against the database to correct any drift. Events applied while the reconcile query
+ * runs are journalled and added to its result; the rare event whose commit the query already saw
+ * is counted twice until the next reconcile, so counts converge rather than being exact at all times.
+ */
+@Component
+public class TaskStatistics implements MeterBinder {
+    private static final Logger log = LoggerFactory.getLogger(TaskStatistics.class);
+
+    private final Map<TaskStatus, LongAdder> byStatus = new EnumMap<>(TaskStatus.class);
+    private final ConcurrentHashMap<LocalDate, LongAdder> dueByDay = new ConcurrentHashMap<>();
+    // Due days of tasks that are not completed, ordered so overdue days form a head map
+    private final ConcurrentNavigableMap<LocalDate, LongAdder> openDueByDay = new ConcurrentSkipListMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    // Set only while reconcile runs
+    private volatile Journal journal;
+    private final TasksDao tasksDao;
+    private final Clock clock;
+    private final boolean reconcileOnPrimary;
+    private Counter driftCounter;
+
+    @Autowired
+    public TaskStatistics(TasksDao tasksDao,
+                          @Value("${tasks.datasource.bulk-reads-on-primary:false}") boolean reconcileOnPrimary) {
+        this(tasksDao, Clock.systemDefaultZone(), reconcileOnPrimary);
+    }
+
+    public TaskStatistics(TasksDao tasksDao, Clock clock, boolean reconcileOnPrimary) {
+        this.tasksDao = tasksDao;
+        this.clock = clock;
+        this.reconcileOnPrimary = reconcileOnPrimary;
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, new LongAdder());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (TaskStatus status : TaskStatus.values()) {
+            Gauge.builder("tasks.count", byStatus.get(status), LongAdder::sum)
+                    .tag("status", status.name())
+                    .register(registry);
+        }
+        driftCounter = Counter.builder("tasks.stats.drift")
+                .description("Task count corrections applied by reconciliation")
+                .register(registry);
+    }
+
+    public TaskStatisticsDto snapshot() {
+        Map<TaskStatus, Long> statuses = new EnumMap<>(TaskStatus.class);
+        long total = 0;
+        for (Map.Entry<TaskStatus, LongAdder> entry : byStatus.entrySet()) {
+            long count = entry.getValue().sum();
+            statuses.put(entry.getKey(), count);
+            total += count;
+        }
+        SortedMap<LocalDate, Long> histogram = new TreeMap<>();
+        dueByDay.forEach((day, count) -> {
+            long value = count.sum();
+            if (value > 0) {
+                histogram.put(day, value);
+            }
+        });
+        return new TaskStatisticsDto(total, statuses, overdue(), histogram);
+    }
+
+    // Day granularity: tasks still open whose due day is before today
+    public long overdue() {
+        long overdue = 0;
+        for (LongAdder count : openDueByDay.headMap(LocalDate.now(clock)).values()) {
+            overdue += count.sum();
+        }
+        return overdue;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Tasks task = event.task();
+        LocalDate dueDay = dueDay(task.getDueDate());
+        switch (event.type()) {
+            case CREATED -> add(task.getStatus(), dueDay, 1);
+            case DELETED -> add(event.previousStatus(), dueDay, -1);
+            case UPDATED -> {
+                if (event.previousStatus() != task.getStatus()) {
+                    add(event.previousStatus(), dueDay, -1);
+                    add(task.getStatus(), dueDay, 1);
+                }
+            }
+        }
+    }
+
+    // Set-based updates do not report the rows' previous statuses, so recount instead
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksBulkUpdated(TasksBulkUpdatedEvent event) {
+        dirty.set(true);
+    }
+
+    // Counts cover tbl_tasks only, so archived tasks leave them on the next recount
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksArchived(TasksArchivedEvent event) {
+        dirty.set(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.stats.dirty-check-interval:5s}")
+    public void reconcileIfDirty() {
+        if (dirty.compareAndSet(true, false)) {
+            reconcile();
+        }
+    }
+
+    // Events that arrive while the aggregate query runs are journalled and added to its result, then
+    // the counters are set to the total with events held off, so those deltas are not overwritten
+    @Scheduled(fixedDelayString = "${tasks.stats.reconcile-interval:5m}", initialDelayString = "${tasks.stats.reconcile-interval:5m}")
+    public synchronized void reconcile() {
+        Journal journal = new Journal();
+        this.journal = journal;
+        try {
+            reconcile(journal);
+        } finally {
+            this.journal = null;
+        }
+    }
+
+    private void reconcile(Journal journal) {
+        Map<TaskStatus, Long> statuses = new EnumMap<>(TaskStatus.class);
+        Map<LocalDate, Long> days = new HashMap<>();
+        Map<LocalDate, Long> openDays = new HashMap<>();
+        // Counters already include committed changes a lagging replica may not have yet. Readers that
+        // share the writer's database never lag, and the whole-table scan would hold up its writes
+        List<TasksDao.DueDayCount> rows;
+        boolean wasPinned = reconcileOnPrimary ? ReadWriteRoutingDataSource.pinToPrimary() : ReadWriteRoutingDataSource.isPinnedToPrimary();
+        try {
+            rows = tasksDao.countByStatusAndDueDay();
+        } finally {
+            ReadWriteRoutingDataSource.unpin(wasPinned);
+        }
+        for (TasksDao.DueDayCount row : rows) {
+            if (row.getStatus() != null) {
+                statuses.merge(row.getStatus(), row.getTotal(), Long::sum);
+            }
+            if (row.getDueDay() != null) {
+                days.merge(row.getDueDay(), row.getTotal(), Long::sum);
+                if (row.getStatus() != TaskStatus.COMPLETED) {
+                    openDays.merge(row.getDueDay(), row.getTotal(), Long::sum);
+                }
+            }
+        }
+
+        long drift = 0;
+        synchronized (journal) {
+            journal.addTo(statuses, days, openDays);
+            for (TaskStatus status : TaskStatus.values()) {
+                drift += correct(byStatus.get(status), statuses.getOrDefault(status, 0L));
+            }
+            drift += correct(dueByDay, days);
+            drift += correct(openDueByDay, openDays);
+        }
+        if (drift > 0) {
+            log.warn("Task statistics drifted by {} and were corrected", drift);
+            if (driftCounter != null) {
+                driftCounter.increment(drift);
+            }
+        }
+    }
+
+    private void add(TaskStatus status, LocalDate dueDay, long delta) {
+        Journal journal = this.journal;
+        if (journal == null) {
+            apply(status, dueDay, delta);
+            return;
+        }
+        synchronized (journal) {
+            apply(status, dueDay, delta);
+            journal.record(status, dueDay, delta);
+        }
+    }
+
+    private void apply(TaskStatus status, LocalDate dueDay, long delta) {
+        if (status != null) {
+            byStatus.get(status).add(delta);
+        }
+        if (dueDay != null) {
+            dueByDay.computeIfAbsent(dueDay, day -> new LongAdder()).add(delta);
+            if (status != TaskStatus.COMPLETED) {
+                openDueByDay.computeIfAbsent(dueDay, day -> new LongAdder()).add(delta);
+            }
+        }
+    }
+
+    private static long correct(Map<LocalDate, LongAdder> counters, Map<LocalDate, Long> truth) {
+        long drift = 0;
+        Set<LocalDate> days = new HashSet<>(counters.keySet());
+        days.addAll(truth.keySet());
+        for (LocalDate day : days) {
+            drift += correct(counters.computeIfAbsent(day, key -> new LongAdder()), truth.getOrDefault(day, 0L));
+        }
+        return drift;
+    }
+
+    private static long correct(LongAdder counter, long expected) {
+        long delta = expected - counter.sum();
+        counter.add(delta);
+        return Math.abs(delta);
+    }
+
+    private static LocalDate dueDay(LocalDateTime dueDate) {
+        return dueDate == null ? null : dueDate.toLocalDate();
+    }
+
+    // Deltas applied since a reconcile started; guarded by its own monitor
+    private static final class Journal {
+        private final Map<TaskStatus, Long> statuses = new EnumMap<>(TaskStatus.class);
+        private final Map<LocalDate, Long> days = new HashMap<>();
+        private final Map<LocalDate, Long> openDays = new HashMap<>();
+
+        void record(TaskStatus status, LocalDate dueDay, long delta) {
+            if (status != null) {
+                statuses.merge(status, delta, Long::sum);
+            }
+            if (dueDay != null) {
+                days.merge(dueDay, delta, Long::sum);
+                if (status != TaskStatus.COMPLETED) {
+                    openDays.merge(dueDay, delta, Long::sum);
+                }
+            }
+        }
+
+        void addTo(Map<TaskStatus, Long> statuses, Map<LocalDate, Long> days, Map<LocalDate, Long> openDays) {
+            this.statuses.forEach((status, delta) -> statuses.merge(status, delta, Long::sum));
+            this.days.forEach((day, delta) -> days.merge(day, delta, Long::sum));
+            this.openDays.forEach((day, delta) -> openDays.merge(day, delta, Long::sum));
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.core.hmcts.service;
+
+import com.core.hmcts.event.TaskChangedEvent;
+import com.core.hmcts.model.entity.Tasks;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Write-behind intake for POST /tasks/create. Accepted tasks already carry their id and wait in a
+ * bounded lock-free queue; a single writer thread commits them in batches once batch-size tasks are
+ * waiting or max-delay has passed since the last flush, whichever comes first. The queue is drained
+ * on shutdown after the web server has stopped taking requests, so nothing accepted is dropped.
+ * <p>
+ * A failed batch is retried with exponential backoff, then row by row. Rows the database still cannot
+ * take are put back on the queue, so a database outage holds them (and answers new requests with 503
+ * once the queue is full) until it recovers. Rows left over at shutdown are appended to spill-file
+ * and queued again on the next start. A row the database rejects outright, such as a duplicate id,
+ * goes to dead-letter-file for an operator instead of being retried for ever.
+ */
+@Component
+@ConditionalOnProperty(name = "tasks.ingest.write-behind", havingValue = "true")
+public class TaskWriteBehindQueue implements SmartLifecycle, MeterBinder {
+    private static final Logger log = LoggerFactory.getLogger(TaskWriteBehindQueue.class);
+
+    private final ConcurrentLinkedQueue<Tasks> queue = new ConcurrentLinkedQueue<>();
+    // ConcurrentLinkedQueue.size() is O(n), so the bound is tracked alongside it
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder spilled = new LongAdder();
+    private final TaskBatchWriter taskBatchWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final int capacity;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final int retryAttempts;
+    private final long retryBackoffNanos;
+    private final long maxRetryBackoffNanos;
+    private final Path spillFile;
+    private final Path deadLetterFile;
+    private volatile boolean running;
+    private volatile Thread writer;
+
+    public TaskWriteBehindQueue(TaskBatchWriter taskBatchWriter, ApplicationEventPublisher eventPublisher,
+                                ObjectMapper objectMapper,
+                                @Value("${tasks.ingest.queue-capacity:10000}") int capacity,
+                                @Value("${tasks.ingest.batch-size:500}") int batchSize,
+                                @Value("${tasks.ingest.max-delay:50ms}") Duration maxDelay,
+                                @Value("${tasks.ingest.retry-attempts:5}") int retryAttempts,
+                                @Value("${tasks.ingest.retry-backoff:100ms}") Duration retryBackoff,
+                                @Value("${tasks.ingest.max-retry-backoff:5s}") Duration maxRetryBackoff,
+                                @Value("${tasks.ingest.spill-file:write-behind-spill.jsonl}") Path spillFile,
+                                @Value("${tasks.ingest.dead-letter-file:write-behind-dead-letter.jsonl}") Path deadLetterFile) {
+        this.taskBatchWriter = taskBatchWriter;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.retryAttempts = retryAttempts;
+        this.retryBackoffNanos = retryBackoff.toNanos();
+        this.maxRetryBackoffNanos = maxRetryBackoff.toNanos();
+        this.spillFile = spillFile;
+        this.deadLetterFile = deadLetterFile;
+    }
+
+    /**
+     * Queues a task for the writer. Returns false when the queue is full or shutting down, in which
+     * case the caller should ask the client to retry.
+     */
+    public boolean offer(Tasks task) {
+        if (!running) {
+            rejected.increment();
+            return false;
+        }
+        // Reserve a slot before enqueueing so concurrent producers cannot overshoot the capacity
+        int queued = size.incrementAndGet();
+        if (queued > capacity) {
+            size.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+        queue.offer(task);
+        accepted.increment();
+        if (queued == batchSize) {
+            LockSupport.unpark(writer);
+        }
+        return true;
+    }
+
+    private void runWriter() {
+        List<Tasks> batch = new ArrayList<>(batchSize);
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (running || size.get() > 0) {
+            long wait = deadline - System.nanoTime();
+            if (running && size.get() < batchSize && wait > 0) {
+                LockSupport.parkNanos(this, wait);
+                continue;
+            }
+            flush(batch);
+            deadline = System.nanoTime() + maxDelayNanos;
+        }
+    }
+
+    private void flush(List<Tasks> batch) {
+        Tasks task;
+        while (batch.size() < batchSize && (task = queue.poll()) != null) {
+            batch.add(task);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        size.addAndGet(-batch.size());
+        if (persistWithRetry(batch)) {
+            batch.forEach(this::publishCreated);
+        } else {
+            persistIndividually(batch);
+        }
+        batch.clear();
+    }
+
+    private boolean persistWithRetry(List<Tasks> batch) {
+        long backoff = retryBackoffNanos;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                taskBatchWriter.persistNew(batch);
+                return true;
+            } catch (DataIntegrityViolationException e) {
+                // A row in the batch is bad; the same batch would fail the same way again
+                log.warn("Write-behind batch of {} tasks was rejected, retrying individually", batch.size(), e);
+                return false;
+            } catch (RuntimeException e) {
+                if (attempt >= retryAttempts) {
+                    log.warn("Write-behind batch of {} tasks failed {} times, retrying individually", batch.size(), attempt, e);
+                    return false;
+                }
+                retried.increment();
+                log.warn("Write-behind batch of {} tasks failed, retry {} in {} ms", batch.size(), attempt,
+                        backoff / 1_000_000, e);
+                LockSupport.parkNanos(this, backoff);
+                backoff = Math.min(backoff * 2, maxRetryBackoffNanos);
+            }
+        }
+    }
+
+    // One bad row fails the whole batch, so isolate it; rows that fail for any other reason are kept
+    private void persistIndividually(List<Tasks> batch) {
+        List<Tasks> unwritten = new ArrayList<>();
+        List<Tasks> rejectedRows = new ArrayList<>();
+        for (Tasks single : batch) {
+            try {
+                taskBatchWriter.persistNew(List.of(single));
+                publishCreated(single);
+            } catch (DataIntegrityViolationException e) {
+                log.error("Database rejected accepted task {}, moving it to {}", single.getId(), deadLetterFile, e);
+                rejectedRows.add(single);
+            } catch (RuntimeException e) {
+                unwritten.add(single);
+            }
+        }
+        if (!rejectedRows.isEmpty()) {
+            spill(deadLetterFile, rejectedRows);
+        }
+        if (unwritten.isEmpty()) {
+            return;
+        }
+        if (running) {
+            // Counted again, so a long outage fills the queue and new requests get 503
+            queue.addAll(unwritten);
+            size.addAndGet(unwritten.size());
+        } else {
+            log.error("Database unavailable at shutdown, spilling {} accepted tasks to {}", unwritten.size(), spillFile);
+            spill(spillFile, unwritten);
+        }
+    }
+
+    private void spill(Path file, List<Tasks> tasks) {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND, StandardOpenOption.DSYNC)) {
+            for (Tasks task : tasks) {
+                out.write(objectMapper.writeValueAsString(task));
+                out.newLine();
+            }
+            spilled.add(tasks.size());
+        } catch (IOException e) {
+            // Nowhere left to keep them; the log line is the last copy
+            failed.add(tasks.size());
+            for (Tasks task : tasks) {
+                log.error("Lost accepted task {}: {}", task.getId(), task, e);
+            }
+        }
+    }
+
+    // Tasks spilled by the previous shutdown go ahead of anything new, even past the capacity
+    private void recoverSpilled() {
+        if (!Files.exists(spillFile)) {
+            return;
+        }
+        try {
+            List<Tasks> recovered = new ArrayList<>();
+            for (String line : Files.readAllLines(spillFile)) {
+                if (!line.isBlank()) {
+                    recovered.add(objectMapper.readValue(line, Tasks.class));
+                }
+            }
+            queue.addAll(recovered);
+            size.addAndGet(recovered.size());
+            Files.delete(spillFile);
+            log.info("Queued {} tasks spilled by the previous shutdown", recovered.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read write-behind spill file " + spillFile, e);
+        }
+    }
+
+    private void publishCreated(Tasks task) {
+        eventPublisher.publishEvent(TaskChangedEvent.created(task));
+    }
+
+    @Override
+    public void start() {
+        recoverSpilled();
+        running = true;
+        writer = Thread.ofPlatform().name("task-write-behind").daemon(true).start(this::runWriter);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = writer;
+        LockSupport.unpark(current);
+        try {
+            current.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Anything offered while the writer was finishing; with the database down each batch is spilled
+        List<Tasks> batch = new ArrayList<>(batchSize);
+        while (size.get() > 0) {
+            flush(batch);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Stops after the web server (DEFAULT_PHASE - 2048) so no request can enqueue behind the drain
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("tasks.ingest.queue.size", size, AtomicInteger::get).register(registry);
+        FunctionCounter.builder("tasks.ingest.accepted", accepted, LongAdder::sum).register(registry);
+        FunctionCounter.builder("tasks.ingest.rejected", rejected, LongAdder::sum).register(registry);
+        FunctionCounter.builder("tasks.ingest.retried", retried, LongAdder::sum).register(registry);
+        FunctionCounter.builder("tasks.ingest.spilled", spilled, LongAdder::sum).register(registry);
+        FunctionCounter.builder("tasks.ingest.failed", failed, LongAdder::sum).register(registry);
+    }
+}
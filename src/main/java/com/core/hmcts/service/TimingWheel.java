@@ -0,0 +1,192 @@
+package com.core.hmcts.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel. Level 0 has one bucket per tick; each level above has buckets as wide
+ * as the whole level below, and levels are added on demand, so a deadline years away costs a handful
+ * of levels rather than millions of buckets. Scheduling and cancelling are O(1): a deadline goes
+ * straight into the bucket that covers it and every entry is a node in a linked list. Advancing one
+ * tick expires a level 0 bucket, and when a higher level's bucket comes due its entries are
+ * redistributed one level down.
+ * <p>
+ * An entry fires on the first tick at or after its deadline, so it is never early and at most one
+ * tick late. Not thread-safe; callers synchronise.
+ */
+public class TimingWheel<K> {
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<Level<K>> levels = new ArrayList<>();
+    private final Map<K, Node<K>> nodes = new HashMap<>();
+    // Ticks since the epoch that have been processed
+    private long currentTick;
+
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMillis must be positive and wheelSize at least 2");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+        levels.add(new Level<>(1, wheelSize));
+    }
+
+    /**
+     * Schedules key, replacing any earlier deadline. Returns false, leaving nothing scheduled, when the
+     * deadline has already passed and the caller should act on it now.
+     */
+    public boolean schedule(K key, long deadlineMillis) {
+        cancel(key);
+        long tick = Math.ceilDiv(deadlineMillis, tickMillis);
+        if (tick <= currentTick) {
+            return false;
+        }
+        Node<K> node = new Node<>(key, tick);
+        nodes.put(key, node);
+        place(node);
+        return true;
+    }
+
+    public boolean cancel(K key) {
+        Node<K> node = nodes.remove(key);
+        if (node == null) {
+            return false;
+        }
+        node.unlink();
+        return true;
+    }
+
+    public boolean contains(K key) {
+        return nodes.containsKey(key);
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Processes every tick up to nowMillis and returns the keys that expired, earliest first.
+     */
+    public List<K> advanceTo(long nowMillis) {
+        long target = Math.floorDiv(nowMillis, tickMillis);
+        List<K> expired = new ArrayList<>();
+        while (currentTick < target) {
+            currentTick++;
+            // Top down, so entries cascading from a higher level can land in a lower level's due bucket
+            for (int i = levels.size() - 1; i > 0; i--) {
+                Level<K> level = levels.get(i);
+                if (currentTick % level.ticksPerBucket == 0) {
+                    Node<K> node = level.bucketFor(currentTick).drain();
+                    while (node != null) {
+                        Node<K> next = node.next;
+                        node.next = null;
+                        place(node);
+                        node = next;
+                    }
+                }
+            }
+            Node<K> node = levels.get(0).bucketFor(currentTick).drain();
+            while (node != null) {
+                Node<K> next = node.next;
+                node.next = null;
+                nodes.remove(node.key);
+                expired.add(node.key);
+                node = next;
+            }
+            if (nodes.isEmpty()) {
+                // Nothing can fire before the target, so skip the empty ticks
+                currentTick = target;
+            }
+        }
+        return expired;
+    }
+
+    private void place(Node<K> node) {
+        for (int i = 0; ; i++) {
+            if (i == levels.size()) {
+                Level<K> below = levels.get(i - 1);
+                levels.add(new Level<>(below.ticksPerBucket * wheelSize, wheelSize));
+            }
+            Level<K> level = levels.get(i);
+            long levelStart = currentTick - Math.floorMod(currentTick, level.ticksPerBucket);
+            if (node.tick < levelStart + level.ticksPerBucket * wheelSize) {
+                level.bucketFor(node.tick).add(node);
+                return;
+            }
+        }
+    }
+
+    private static final class Level<K> {
+        private final long ticksPerBucket;
+        private final Bucket<K>[] buckets;
+
+        @SuppressWarnings("unchecked")
+        private Level(long ticksPerBucket, int wheelSize) {
+            this.ticksPerBucket = ticksPerBucket;
+            this.buckets = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new Bucket<>();
+            }
+        }
+
+        private Bucket<K> bucketFor(long tick) {
+            return buckets[(int) Math.floorMod(tick / ticksPerBucket, (long) buckets.length)];
+        }
+    }
+
+    // Doubly linked list with a sentinel so unlinking a node needs no reference to its bucket
+    private static final class Bucket<K> {
+        private final Node<K> head = new Node<>(null, 0);
+
+        private Bucket() {
+            head.next = head;
+            head.prev = head;
+        }
+
+        private void add(Node<K> node) {
+            node.prev = head.prev;
+            node.next = head;
+            head.prev.next = node;
+            head.prev = node;
+        }
+
+        // Detaches every node and returns them as a null-terminated chain
+        private Node<K> drain() {
+            if (head.next == head) {
+                return null;
+            }
+            Node<K> first = head.next;
+            head.prev.next = null;
+            head.next = head;
+            head.prev = head;
+            for (Node<K> node = first; node != null; node = node.next) {
+                node.prev = null;
+            }
+            return first;
+        }
+    }
+
+    private static final class Node<K> {
+        private final K key;
+        private final long tick;
+        private Node<K> prev;
+        private Node<K> next;
+
+        private Node(K key, long tick) {
+            this.key = key;
+            this.tick = tick;
+        }
+
+        private void unlink() {
+            if (prev != null) {
+                prev.next = next;
+                next.prev = prev;
+                prev = null;
+                next = null;
+            }
+        }
+    }
+}
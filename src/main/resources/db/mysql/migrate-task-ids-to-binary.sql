@@ -0,0 +1,53 @@
+-- Online migration of tbl_tasks.id from VARCHAR(255) to BINARY(16) on MySQL 8, as expand/contract.
+-- Existing v4 ids keep their value; only the storage changes. New rows get time-ordered v7 ids.
+-- The releases before BINARY(16) ids map tbl_tasks.id as a string and the releases after it map a
+-- binary column, so the two layouts live side by side until no old release is left:
+--
+--   A. Expand (steps 1-4): add the binary id as a second column and keep both columns filled,
+--      whichever release writes the row. Run while the old release is serving traffic.
+--   B. Deploy the new release with the tasks-id-bin profile, which maps the id to id_bin. Old and
+--      new instances can serve traffic together for as long as the rollout takes.
+--   C. Contract (step 5): only once the old release is gone everywhere, move the primary key to
+--      id_bin and drop the VARCHAR column. Nothing still running reads it by then.
+--
+-- The table keeps id_bin as the column name afterwards, so keep the tasks-id-bin profile active
+-- for this database. The reactive profile queries tbl_tasks.id directly and is not supported here.
+
+-- 1. Shadow column, added without a table rebuild or write lock.
+ALTER TABLE tbl_tasks ADD COLUMN id_bin BINARY(16) NULL, ALGORITHM=INSTANT;
+
+-- 2. Dual write: the old release inserts only id and the new release inserts only id_bin; fill in
+--    the other. Ids never change after insert, so updates need no trigger.
+CREATE TRIGGER tbl_tasks_id_dual_write BEFORE INSERT ON tbl_tasks
+    FOR EACH ROW SET NEW.id = COALESCE(NEW.id, BIN_TO_UUID(NEW.id_bin)),
+                     NEW.id_bin = COALESCE(NEW.id_bin, UUID_TO_BIN(NEW.id));
+
+-- 3. Backfill in small batches so no statement holds row locks for long.
+--    Repeat until it reports 0 rows affected.
+UPDATE tbl_tasks SET id_bin = UUID_TO_BIN(id) WHERE id_bin IS NULL LIMIT 5000;
+
+-- 4. Index the binary id so the new release can look tasks up by it, and page by it, before it
+--    becomes the primary key. Built online; the old release keeps reading and writing.
+ALTER TABLE tbl_tasks
+    ADD UNIQUE INDEX idx_tasks_id_bin (id_bin),
+    ADD INDEX idx_tasks_created_at_id_bin (created_at, id_bin),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+-- ---------------------------------------------------------------------------------------------
+-- Stop here and roll out the new release with the tasks-id-bin profile. Run step 5 only after
+-- every instance of the old release has been stopped, including anything that may be rolled back to.
+-- ---------------------------------------------------------------------------------------------
+
+-- 5. Contract: the binary column becomes the primary key and the VARCHAR column goes. InnoDB
+--    rebuilds the table in place and allows concurrent reads and writes until the final metadata
+--    lock; the new release only ever touches id_bin, so it is unaffected.
+DROP TRIGGER tbl_tasks_id_dual_write;
+ALTER TABLE tbl_tasks
+    DROP INDEX idx_tasks_created_at_id,
+    DROP INDEX idx_tasks_id_bin,
+    DROP PRIMARY KEY,
+    DROP COLUMN id,
+    MODIFY COLUMN id_bin BINARY(16) NOT NULL FIRST,
+    ADD PRIMARY KEY (id_bin),
+    RENAME INDEX idx_tasks_created_at_id_bin TO idx_tasks_created_at_id,
+    ALGORITHM=INPLACE, LOCK=NONE;
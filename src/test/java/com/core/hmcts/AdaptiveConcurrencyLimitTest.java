@@ -0,0 +1,71 @@
+package com.core.hmcts;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.core.hmcts.filter.AdaptiveConcurrencyLimit;
+
+public class AdaptiveConcurrencyLimitTest {
+
+    @Test
+    void risingLatency_ShrinksLimitAndSteadyLatency_GrowsIt() {
+        // Given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 4, 200, 0.8, 1.5);
+        saturate(limit, 10, TimeUnit.MILLISECONDS.toNanos(5));
+        int healthy = limit.limit();
+
+        // When
+        saturate(limit, 10, TimeUnit.MILLISECONDS.toNanos(50));
+
+        // Then
+        assertThat(healthy).isGreaterThan(20);
+        assertThat(limit.limit()).isLessThan(20);
+    }
+
+    @Test
+    void idleWindows_LeaveLimitAlone() {
+        // Given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 4, 200, 0.8, 1.5);
+
+        // When: one request at a time never gets near the limit
+        for (int i = 0; i < 200; i++) {
+            assertThat(limit.tryAcquire(false)).isTrue();
+            limit.release(TimeUnit.MILLISECONDS.toNanos(i < 100 ? 5 : 500));
+        }
+
+        // Then
+        assertThat(limit.limit()).isEqualTo(20);
+    }
+
+    @Test
+    void reads_AreShedBeforeWrites() {
+        // Given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 10, 0.8, 1.5);
+        for (int i = 0; i < 8; i++) {
+            assertThat(limit.tryAcquire(false)).isTrue();
+        }
+
+        // When & Then
+        assertThat(limit.tryAcquire(false)).isFalse();
+        assertThat(limit.tryAcquire(true)).isTrue();
+        assertThat(limit.tryAcquire(true)).isTrue();
+        assertThat(limit.tryAcquire(true)).isFalse();
+        assertThat(limit.inflight()).isEqualTo(10);
+    }
+
+    // Keeps the limit fully used for the given number of sample windows at a fixed latency
+    private static void saturate(AdaptiveConcurrencyLimit limit, int windows, long latencyNanos) {
+        for (int window = 0; window < windows; window++) {
+            int admitted = 0;
+            while (limit.tryAcquire(true)) {
+                admitted++;
+            }
+            for (int i = 0; i < admitted; i++) {
+                limit.release(latencyNanos);
+            }
+        }
+    }
+}
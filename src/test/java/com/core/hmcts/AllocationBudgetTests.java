@@ -0,0 +1,100 @@
+package com.core.hmcts;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.util.unit.DataSize;
+
+import com.core.hmcts.model.dto.CreateTaskDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Fails when the mean bytes allocated per request by an endpoint exceed its budget in
+ * application.properties. Warm-up requests are excluded so class loading and first-use caches do not count.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+public class AllocationBudgetTests {
+    private static final int WARM_UP = 200;
+    private static final int MEASURED = 200;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${tasks.allocation.budgets[addTask]}")
+    private DataSize addTaskBudget;
+
+    @Value("${tasks.allocation.budgets[getTaskById]}")
+    private DataSize getTaskBudget;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String body = "{\"title\":\"Budget task\",\"description\":\"Allocation budget\",\"dueDate\":\"2030-01-01T09:00\"}";
+
+    @Test
+    void addTask_StaysWithinAllocationBudget() throws Exception {
+        for (int i = 0; i < WARM_UP; i++) {
+            create();
+        }
+        DistributionSummary summary = summary("addTask");
+        long count = summary.count();
+        double total = summary.totalAmount();
+
+        for (int i = 0; i < MEASURED; i++) {
+            create();
+        }
+
+        assertThat(summary.count() - count).isEqualTo(MEASURED);
+        assertThat((summary.totalAmount() - total) / MEASURED).isLessThanOrEqualTo(addTaskBudget.toBytes());
+    }
+
+    @Test
+    void getTask_StaysWithinAllocationBudget() throws Exception {
+        String id = create();
+        for (int i = 0; i < WARM_UP; i++) {
+            mockMvc.perform(get("/tasks/" + id)).andExpect(status().isOk());
+        }
+        DistributionSummary summary = summary("getTaskById");
+        long count = summary.count();
+        double total = summary.totalAmount();
+
+        for (int i = 0; i < MEASURED; i++) {
+            mockMvc.perform(get("/tasks/" + id)).andExpect(status().isOk());
+        }
+
+        assertThat(summary.count() - count).isEqualTo(MEASURED);
+        assertThat((summary.totalAmount() - total) / MEASURED).isLessThanOrEqualTo(getTaskBudget.toBytes());
+    }
+
+    private String create() throws Exception {
+        String response = mockMvc.perform(post("/tasks/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode created = objectMapper.readTree(response);
+        return created.path("data").path("id").asText();
+    }
+
+    private DistributionSummary summary(String endpoint) {
+        return meterRegistry.get("tasks.request.allocation").tag("endpoint", endpoint).summary();
+    }
+}
@@ -0,0 +1,167 @@
+package com.core.hmcts;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.core.hmcts.model.dao.TasksDao;
+import com.core.hmcts.model.entity.Tasks;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Drives the task endpoints while the database slows down underneath them. Once statements take
+ * 50 ms against a pool of four connections, the limiter should shrink and answer the excess with
+ * 503 and Retry-After rather than letting every request queue for a connection, shedding reads
+ * ahead of writes. Run with ./mvnw test -Pbenchmark -Dtest=ConcurrencyLimitOverloadTests
+ */
+@Tag("benchmark")
+public class ConcurrencyLimitOverloadTests {
+    private static final int SEEDED_TASKS = 200;
+    private static final int REQUESTS = 3_000;
+    private static final int CONCURRENCY = 200;
+    private static final int INITIAL_LIMIT = 20;
+    // One request in WRITE_EVERY is a create, the rest are page reads
+    private static final int WRITE_EVERY = 5;
+
+    @Test
+    void slowDatabase_ShedsExcessLoadWithRetryAfter() throws Exception {
+        SlowStatements slowStatements = new SlowStatements(Duration.ofMillis(1));
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(HmctsApplication.class)
+                .profiles("embedded")
+                .properties("server.port=0",
+                        "spring.datasource.hikari.maximum-pool-size=4",
+                        "tasks.limiter.initial-limit=" + INITIAL_LIMIT)
+                .initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(slowStatements))
+                .run()) {
+            seed(context.getBean(TasksDao.class));
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+
+            // Given: a baseline taken while the database is healthy
+            fire(client, port, REQUESTS / 3);
+            double readsRejectedBefore = rejected(meterRegistry, "read");
+            double writesRejectedBefore = rejected(meterRegistry, "write");
+
+            // When
+            slowStatements.setLatency(Duration.ofMillis(50));
+            Result overloaded = fire(client, port, REQUESTS);
+
+            // Then
+            assertThat(overloaded.failed()).as("overloaded: %s", overloaded).isZero();
+            assertThat(overloaded.rejectedReads() + overloaded.rejectedWrites()).isPositive();
+            assertThat(overloaded.missingRetryAfter()).isZero();
+            assertThat(overloaded.readRejectionRate()).isGreaterThan(overloaded.writeRejectionRate());
+            assertThat(meterRegistry.get("tasks.limiter.limit").gauge().value()).isLessThan(INITIAL_LIMIT);
+            // Every 503 the clients saw was counted by the limiter, and nothing else was
+            assertThat(rejected(meterRegistry, "read") - readsRejectedBefore)
+                    .isPositive()
+                    .isEqualTo(overloaded.rejectedReads());
+            assertThat(rejected(meterRegistry, "write") - writesRejectedBefore).isEqualTo(overloaded.rejectedWrites());
+        }
+    }
+
+    private static double rejected(MeterRegistry meterRegistry, String priority) {
+        return meterRegistry.get("tasks.limiter.rejected").tag("priority", priority).functionCounter().count();
+    }
+
+    private Result fire(HttpClient client, int port, int requests) throws Exception {
+        AtomicInteger reads = new AtomicInteger();
+        AtomicInteger writes = new AtomicInteger();
+        AtomicInteger rejectedReads = new AtomicInteger();
+        AtomicInteger rejectedWrites = new AtomicInteger();
+        AtomicInteger missingRetryAfter = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger next = new AtomicInteger();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> workers = new ArrayList<>(CONCURRENCY);
+            for (int w = 0; w < CONCURRENCY; w++) {
+                workers.add(clients.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < requests; i = next.getAndIncrement()) {
+                        boolean write = i % WRITE_EVERY == 0;
+                        (write ? writes : reads).incrementAndGet();
+                        try {
+                            HttpResponse<Void> response = client.send(request(port, i, write), HttpResponse.BodyHandlers.discarding());
+                            int status = response.statusCode();
+                            if (status == 503) {
+                                (write ? rejectedWrites : rejectedReads).incrementAndGet();
+                                if (response.headers().firstValue("Retry-After").isEmpty()) {
+                                    missingRetryAfter.incrementAndGet();
+                                }
+                            } else if (status != 200 && status != 201) {
+                                failed.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            failed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+        return new Result(reads.get(), writes.get(), rejectedReads.get(), rejectedWrites.get(),
+                missingRetryAfter.get(), failed.get());
+    }
+
+    private static HttpRequest request(int port, int i, boolean write) {
+        if (write) {
+            String body = "{\"title\":\"Overload " + i + "\",\"description\":\"Created under load\",\"dueDate\":\"2030-01-01T09:00\"}";
+            return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/tasks/create"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/tasks/?page=" + (i % 8) + "&size=25")).build();
+    }
+
+    private static void seed(TasksDao tasksDao) {
+        List<Tasks> tasks = new ArrayList<>(SEEDED_TASKS);
+        for (int i = 0; i < SEEDED_TASKS; i++) {
+            Tasks task = new Tasks();
+            task.setTitle("Task " + i);
+            task.setDescription("Load task " + i);
+            task.setDueDate(LocalDateTime.of(2030, 1, 1, 9, 0));
+            tasks.add(task);
+        }
+        tasksDao.saveAll(tasks);
+    }
+
+    private record Result(int reads, int writes, int rejectedReads, int rejectedWrites, int missingRetryAfter,
+                          int failed) {
+        double readRejectionRate() {
+            return (double) rejectedReads / reads;
+        }
+
+        double writeRejectionRate() {
+            return (double) rejectedWrites / writes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d/%d reads rejected, %d/%d writes rejected, %d failed",
+                    rejectedReads, reads, rejectedWrites, writes, failed);
+        }
+    }
+}
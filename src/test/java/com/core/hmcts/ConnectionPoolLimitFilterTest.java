@@ -0,0 +1,51 @@
+package com.core.hmcts;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.core.hmcts.filter.ConnectionPoolLimitFilter;
+
+public class ConnectionPoolLimitFilterTest {
+
+    private final ConnectionPoolLimitFilter filter = new ConnectionPoolLimitFilter(1, Duration.ofMillis(10));
+
+    @Test
+    void asyncRequest_HoldsPermitUntilAsyncCompletes() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks/export");
+        request.setAsyncSupported(true);
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        // Then
+        assertThat(filter.availablePermits()).isZero();
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/tasks/"), rejected, (req, res) -> { });
+        assertThat(rejected.getStatus()).isEqualTo(503);
+
+        // When
+        request.getAsyncContext().complete();
+
+        // Then
+        assertThat(filter.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void inMemoryEndpoints_AreNotLimited() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks/stats");
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) ->
+                assertThat(filter.availablePermits()).isEqualTo(1));
+
+        // Then
+        assertThat(filter.availablePermits()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,137 @@
+package com.core.hmcts;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.core.hmcts.model.dto.UpdateTaskDto;
+import com.core.hmcts.model.entity.Tasks.TaskStatus;
+import com.core.hmcts.service.GroupCommitTaskService;
+import com.core.hmcts.service.TaskService;
+
+public class GroupCommitTaskServiceTest {
+
+    private TaskService delegate;
+
+    private PlatformTransactionManager transactionManager;
+
+    private GroupCommitTaskService service;
+
+    private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final CountDownLatch firstWriteStarted = new CountDownLatch(1);
+
+    private final CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+
+    @BeforeEach
+    void setup() {
+        delegate = mock(TaskService.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(delegate.updateTask(anyString(), any())).thenAnswer(invocation -> ResponseEntity.ok(invocation.getArgument(0)));
+        // The first write holds the writer so the following ones queue up behind it
+        when(delegate.updateTask(eq("first"), any())).thenAnswer(invocation -> {
+            firstWriteStarted.countDown();
+            releaseFirstWrite.await(5, TimeUnit.SECONDS);
+            return ResponseEntity.ok("first");
+        });
+        when(delegate.updateTask(eq("bad"), any())).thenThrow(new IllegalStateException("constraint violated"));
+        service = new GroupCommitTaskService(delegate, transactionManager, 64);
+        service.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseFirstWrite.countDown();
+        if (service.isRunning()) {
+            service.stop();
+        }
+        callers.shutdownNow();
+    }
+
+    @Test
+    void queuedWrites_AreCommittedInOneTransaction() throws Exception {
+        // Given
+        CompletableFuture<ResponseEntity<?>> first = update("first");
+        firstWriteStarted.await(5, TimeUnit.SECONDS);
+        List<CompletableFuture<ResponseEntity<?>>> queued = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            queued.add(update("task-" + i));
+        }
+        await().atMost(Duration.ofSeconds(5)).until(() -> service.pendingWrites() == 4);
+
+        // When
+        releaseFirstWrite.countDown();
+
+        // Then
+        assertThat(first.get(5, TimeUnit.SECONDS).getBody()).isEqualTo("first");
+        for (int i = 0; i < 4; i++) {
+            assertThat(queued.get(i).get(5, TimeUnit.SECONDS).getBody()).isEqualTo("task-" + i);
+        }
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void failingWrite_OnlyFailsItsOwnCaller() throws Exception {
+        // Given
+        update("first");
+        firstWriteStarted.await(5, TimeUnit.SECONDS);
+        CompletableFuture<ResponseEntity<?>> before = update("good-1");
+        await().atMost(Duration.ofSeconds(5)).until(() -> service.pendingWrites() == 1);
+        CompletableFuture<ResponseEntity<?>> bad = update("bad");
+        await().atMost(Duration.ofSeconds(5)).until(() -> service.pendingWrites() == 2);
+        CompletableFuture<ResponseEntity<?>> after = update("good-2");
+        await().atMost(Duration.ofSeconds(5)).until(() -> service.pendingWrites() == 3);
+
+        // When
+        releaseFirstWrite.countDown();
+
+        // Then
+        assertThat(before.get(5, TimeUnit.SECONDS).getBody()).isEqualTo("good-1");
+        assertThat(after.get(5, TimeUnit.SECONDS).getBody()).isEqualTo("good-2");
+        assertThatThrownBy(() -> bad.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        // The group is rolled back once, then the bad write again on its own retry
+        verify(transactionManager, times(2)).rollback(any());
+    }
+
+    @Test
+    void reads_RunOnCallerThread() {
+        // Given
+        when(delegate.getTask("id")).thenAnswer(invocation -> ResponseEntity.ok(Thread.currentThread().getName()));
+
+        // When
+        ResponseEntity<?> response = service.getTask("id");
+
+        // Then
+        assertThat(response.getBody()).isEqualTo(Thread.currentThread().getName());
+        verify(transactionManager, times(0)).getTransaction(any());
+    }
+
+    private CompletableFuture<ResponseEntity<?>> update(String id) {
+        return CompletableFuture.supplyAsync(() -> service.updateTask(id, new UpdateTaskDto(TaskStatus.COMPLETED)), callers);
+    }
+}
@@ -0,0 +1,152 @@
+package com.core.hmcts;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.core.hmcts.model.dao.TasksDao;
+import com.core.hmcts.model.entity.Tasks;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.r2dbc.pool.ConnectionPool;
+
+/**
+ * The servlet stack against the reactive profile under the same concurrent read load, both on an
+ * in-memory H2 database. Reports throughput, peak platform threads and peak connections checked out.
+ * Run with ./mvnw test -Pbenchmark -Dtest=ReactiveLoadBenchmarkTests
+ */
+@Tag("benchmark")
+public class ReactiveLoadBenchmarkTests {
+    private static final int SEEDED_TASKS = 500;
+    private static final int REQUESTS = 10_000;
+    private static final int CONCURRENCY = 1_000;
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    @Test
+    void reactiveStack_ServesHighConcurrencyWithFewerThreads() throws Exception {
+        Result servlet = run(false);
+        Result reactive = run(true);
+
+        assertThat(servlet.failed()).as("servlet: %s", servlet).isZero();
+        assertThat(reactive.failed()).as("reactive: %s", reactive).isZero();
+        assertThat(reactive.peakThreads()).as("servlet: %s, reactive: %s", servlet, reactive).isLessThan(servlet.peakThreads());
+    }
+
+    private Result run(boolean reactive) throws Exception {
+        String database = reactive ? "reactive" : "servlet";
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(HmctsApplication.class)
+                .properties("server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.datasource.hikari.maximum-pool-size=20",
+                        "spring.r2dbc.url=r2dbc:h2:mem:///" + database + "?options=DB_CLOSE_DELAY=-1",
+                        "spring.r2dbc.username=sa",
+                        "spring.r2dbc.password=",
+                        "spring.r2dbc.pool.max-size=20",
+                        "tasks.limiter.enabled=false");
+        if (reactive) {
+            builder.profiles("reactive");
+        }
+        try (ConfigurableApplicationContext context = builder.run()) {
+            seed(context.getBean(TasksDao.class));
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            IntSupplier connectionsInUse = reactive
+                    ? () -> context.getBean(ConnectionPool.class).getMetrics().map(m -> m.acquiredSize()).orElse(0)
+                    : () -> ((HikariDataSource) context.getBean(DataSource.class)).getHikariPoolMXBean().getActiveConnections();
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+            // Warm up before measuring
+            fire(client, port, REQUESTS / 5, connectionsInUse);
+            threads.resetPeakThreadCount();
+            return fire(client, port, REQUESTS, connectionsInUse);
+        }
+    }
+
+    private Result fire(HttpClient client, int port, int requests, IntSupplier connectionsInUse) throws Exception {
+        AtomicInteger ok = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger peakConnections = new AtomicInteger();
+
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> peakConnections.accumulateAndGet(connectionsInUse.getAsInt(), Math::max),
+                0, 5, TimeUnit.MILLISECONDS);
+        long start = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> workers = new ArrayList<>(CONCURRENCY);
+            for (int w = 0; w < CONCURRENCY; w++) {
+                workers.add(clients.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < requests; i = next.getAndIncrement()) {
+                        HttpRequest request = HttpRequest.newBuilder(
+                                URI.create("http://localhost:" + port + "/tasks/?page=" + (i % 20) + "&size=25")).build();
+                        try {
+                            if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                                ok.incrementAndGet();
+                            } else {
+                                failed.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            failed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            sampler.shutdownNow();
+        }
+        long elapsed = System.nanoTime() - start;
+        return new Result(ok.get(), failed.get(), requests / (elapsed / 1e9), threads.getPeakThreadCount(), peakConnections.get());
+    }
+
+    private static void seed(TasksDao tasksDao) {
+        List<Tasks> tasks = new ArrayList<>(SEEDED_TASKS);
+        for (int i = 0; i < SEEDED_TASKS; i++) {
+            Tasks task = new Tasks();
+            task.setTitle("Task " + i);
+            task.setDescription("Load task " + i);
+            task.setDueDate(LocalDateTime.of(2030, 1, 1, 9, 0));
+            tasks.add(task);
+        }
+        tasksDao.saveAll(tasks);
+    }
+
+    private record Result(int ok, int failed, double throughput, int peakThreads, int peakConnections) {
+        @Override
+        public String toString() {
+            return String.format("%.0f req/s, %d ok, %d failed, peak %d platform threads, peak %d connections in use",
+                    throughput, ok, failed, peakThreads, peakConnections);
+        }
+    }
+}
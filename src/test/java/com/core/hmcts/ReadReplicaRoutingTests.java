@@ -0,0 +1,142 @@
+package com.core.hmcts;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.core.hmcts.filter.ReadYourWritesFilter;
+import com.core.hmcts.model.dao.ReadWriteRoutingDataSource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.servlet.http.Cookie;
+
+/**
+ * Two SQLite files stand in for the primary and a replica. Replication is simulated by copying the
+ * primary's table into the replica, so a task created after the last copy exists only on the primary.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"embedded", "replicas"})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:sqlite:" + ReadReplicaRoutingTests.PRIMARY_FILE + "?busy_timeout=10000",
+        "tasks.datasource.replicas[0].url=jdbc:sqlite:target/routing-replica.db?busy_timeout=10000",
+        "tasks.datasource.replicas[0].driver-class-name=org.sqlite.JDBC",
+        "tasks.datasource.read-your-writes-window=1m"
+})
+public class ReadReplicaRoutingTests {
+    static final String PRIMARY_FILE = "target/routing-primary.db";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String body = "{\"title\":\"Routed task\",\"description\":\"Replica routing\",\"dueDate\":\"2030-01-01T09:00\"}";
+
+    @BeforeEach
+    void setup() {
+        replicate();
+    }
+
+    @Test
+    void reads_AreServedByReplica() throws Exception {
+        // Given
+        String replicated = create().id();
+        replicate();
+        String primaryOnly = create().id();
+
+        // When / Then
+        mockMvc.perform(get("/tasks/" + replicated)).andExpect(status().isOk());
+        mockMvc.perform(get("/tasks/" + primaryOnly)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void readsAfterWrite_AreServedByPrimaryWithinWindow() throws Exception {
+        // Given
+        Created created = create();
+
+        // When / Then
+        mockMvc.perform(get("/tasks/" + created.id())).andExpect(status().isNotFound());
+        mockMvc.perform(get("/tasks/" + created.id()).cookie(created.cookie())).andExpect(status().isOk());
+    }
+
+    @Test
+    void expiredOrForgedWindow_IsIgnored() throws Exception {
+        // Given
+        String id = create().id();
+        long now = System.currentTimeMillis();
+
+        // When / Then
+        mockMvc.perform(get("/tasks/" + id).cookie(new Cookie(ReadYourWritesFilter.COOKIE_NAME, Long.toString(now - 1))))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/tasks/" + id).cookie(new Cookie(ReadYourWritesFilter.COOKIE_NAME, Long.toString(Long.MAX_VALUE))))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DirtiesContext
+    void failingReplica_IsEjectedAndReadsFallBackToPrimary() throws Exception {
+        // Given
+        String primaryOnly = create().id();
+        ((HikariDataSource) replica()).close();
+
+        // When / Then
+        mockMvc.perform(get("/tasks/" + primaryOnly)).andExpect(status().isOk());
+        assertThat(routingDataSource.isHealthy("replica-0")).isFalse();
+    }
+
+    private Created create() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(post("/tasks/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(cookie().exists(ReadYourWritesFilter.COOKIE_NAME))
+                .andReturn().getResponse();
+        String id = objectMapper.readTree(response.getContentAsString()).path("data").path("id").asText();
+        return new Created(id, response.getCookie(ReadYourWritesFilter.COOKIE_NAME));
+    }
+
+    // Copies the primary's rows into the replica in one go
+    private void replicate() {
+        new JdbcTemplate(replica()).execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ATTACH DATABASE '" + PRIMARY_FILE + "' AS src");
+                statement.execute("DROP TABLE IF EXISTS tbl_tasks");
+                statement.execute("CREATE TABLE tbl_tasks AS SELECT * FROM src.tbl_tasks");
+                statement.execute("DETACH DATABASE src");
+            }
+            return null;
+        });
+    }
+
+    private DataSource replica() {
+        return routingDataSource.getResolvedDataSources().get("replica-0");
+    }
+
+    private record Created(String id, Cookie cookie) {
+    }
+}
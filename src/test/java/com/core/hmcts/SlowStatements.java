@@ -0,0 +1,59 @@
+package com.core.hmcts;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Wraps the DataSource so every statement execution blocks for the configured latency while holding
+ * its connection, standing in for a remote or struggling database. The latency can be changed while
+ * the application runs.
+ */
+class SlowStatements implements BeanPostProcessor {
+    private volatile Duration latency;
+
+    SlowStatements(Duration latency) {
+        this.latency = latency;
+    }
+
+    void setLatency(Duration latency) {
+        this.latency = latency;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, null);
+        }
+        return bean;
+    }
+
+    private <T> T proxy(Class<T> type, Object target, String delayedPrefix) {
+        InvocationHandler handler = (p, method, args) -> {
+            if (delayedPrefix != null && method.getName().startsWith(delayedPrefix)) {
+                Thread.sleep(latency);
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (result instanceof Connection connection) {
+                return proxy(Connection.class, connection, null);
+            }
+            if (result instanceof Statement statement && method.getReturnType().isInterface()) {
+                return proxy(method.getReturnType(), statement, "execute");
+            }
+            return result;
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+}
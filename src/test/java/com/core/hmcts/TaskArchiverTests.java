@@ -0,0 +1,104 @@
+package com.core.hmcts;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.core.hmcts.model.dao.ArchivedTasksDao;
+import com.core.hmcts.model.dao.TasksDao;
+import com.core.hmcts.model.entity.Tasks;
+import com.core.hmcts.model.entity.Tasks.TaskStatus;
+import com.core.hmcts.service.TaskArchiver;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:sqlite:target/archive-tests.db?busy_timeout=10000",
+        "tasks.archive.enabled=true",
+        "tasks.archive.batch-size=1"
+})
+public class TaskArchiverTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskArchiver taskArchiver;
+
+    @Autowired
+    private TasksDao tasksDao;
+
+    @Autowired
+    private ArchivedTasksDao archivedTasksDao;
+
+    @BeforeEach
+    void setup() {
+        tasksDao.deleteAll();
+        archivedTasksDao.deleteAll();
+    }
+
+    @Test
+    void archiveBatch_MovesCompletedTasksOneBatchAtATime() {
+        // Given
+        List<Tasks> saved = tasksDao.saveAll(List.of(
+                task("Done one", TaskStatus.COMPLETED),
+                task("Done two", TaskStatus.COMPLETED),
+                task("Still open", TaskStatus.PENDING)));
+        Timestamp cutoff = Timestamp.from(Instant.now().plusSeconds(60));
+
+        // When
+        int first = taskArchiver.archiveBatch(cutoff);
+        int second = taskArchiver.archiveBatch(cutoff);
+        int third = taskArchiver.archiveBatch(cutoff);
+
+        // Then
+        assertThat(List.of(first, second, third)).containsExactly(1, 1, 0);
+        assertThat(tasksDao.findAll()).extracting(Tasks::getId).containsExactly(saved.get(2).getId());
+        assertThat(archivedTasksDao.findAllById(List.of(saved.get(0).getId(), saved.get(1).getId()))).hasSize(2);
+    }
+
+    @Test
+    void archivedTask_IsStillReadableButNotWritable() throws Exception {
+        // Given
+        Tasks done = tasksDao.save(task("Archived task", TaskStatus.COMPLETED));
+        taskArchiver.archiveBatch(Timestamp.from(Instant.now().plusSeconds(60)));
+
+        // When / Then
+        mockMvc.perform(get("/tasks/" + done.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.data.title").value("Archived task"))
+                .andExpect(jsonPath("$.data.status").value("COMPLETED"));
+        mockMvc.perform(put("/tasks/" + done.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"PENDING\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    private static Tasks task(String title, TaskStatus status) {
+        Tasks task = new Tasks();
+        task.setTitle(title);
+        task.setStatus(status);
+        task.setDueDate(LocalDateTime.of(2025, 1, 1, 9, 0));
+        return task;
+    }
+}
@@ -0,0 +1,88 @@
+package com.core.hmcts;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.core.hmcts.model.dao.TasksDao;
+import com.core.hmcts.model.dto.CreateTaskDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Drives POST /tasks/create and POST /tasks/batch at volume on the embedded database and checks both
+ * persist every task. Throughput is compared by BatchCreateBenchmark in the benchmarks module.
+ * Run with ./mvnw test -Pbenchmark
+ */
+@Tag("benchmark")
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+public class TaskBatchBenchmarkTests {
+    private static final int TASKS = 2_000;
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TasksDao tasksDao;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void batchCreate_PersistsSameVolumeAsSingleCreate() throws Exception {
+        // Given
+        tasksDao.deleteAllInBatch();
+
+        // When
+        createSingly(TASKS);
+
+        // Then
+        assertThat(tasksDao.count()).isEqualTo(TASKS);
+        tasksDao.deleteAllInBatch();
+
+        // When
+        createInBatches(TASKS);
+
+        // Then
+        assertThat(tasksDao.count()).isEqualTo(TASKS);
+    }
+
+    private void createSingly(int count) throws Exception {
+        for (int i = 0; i < count; i++) {
+            mockMvc.perform(post("/tasks/create")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(task(i))))
+                .andExpect(status().isCreated());
+        }
+    }
+
+    private void createInBatches(int count) throws Exception {
+        for (int offset = 0; offset < count; offset += BATCH_SIZE) {
+            List<CreateTaskDto> batch = new ArrayList<>(BATCH_SIZE);
+            for (int i = offset; i < Math.min(offset + BATCH_SIZE, count); i++) {
+                batch.add(task(i));
+            }
+            mockMvc.perform(post("/tasks/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isCreated());
+        }
+    }
+
+    private static CreateTaskDto task(int i) {
+        return new CreateTaskDto("Task " + i, "Benchmark task " + i, "2030-01-01T09:00");
+    }
+}
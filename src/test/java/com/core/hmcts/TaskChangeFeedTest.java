@@ -0,0 +1,323 @@
+package com.core.hmcts;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.core.hmcts.event.TaskChangedEvent;
+import com.core.hmcts.event.TasksBulkUpdatedEvent;
+import com.core.hmcts.model.dto.TaskChangeDto;
+import com.core.hmcts.model.entity.Tasks;
+import com.core.hmcts.model.entity.Tasks.TaskStatus;
+import com.core.hmcts.service.TaskChangeFeed;
+
+public class TaskChangeFeedTest {
+
+    private TaskChangeFeed feed;
+
+    @AfterEach
+    void tearDown() {
+        feed.destroy();
+    }
+
+    @Test
+    void changes_AreDeliveredToMatchingSubscribersOnly() {
+        // Given
+        feed = new RecordingFeed(100, 100);
+        RecordingEmitter pending = (RecordingEmitter) feed.subscribe(Set.of(TaskStatus.PENDING), Set.of(), null);
+        RecordingEmitter watched = (RecordingEmitter) feed.subscribe(Set.of(), Set.of("b"), null);
+
+        // When
+        feed.onTaskChanged(TaskChangedEvent.created(task("a", TaskStatus.PENDING)));
+        feed.onTaskChanged(TaskChangedEvent.created(task("b", TaskStatus.COMPLETED)));
+        feed.onTasksBulkUpdated(new TasksBulkUpdatedEvent(List.of("a", "b"), TaskStatus.IN_PROGRESS));
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> watched.changes().size() == 2);
+        assertThat(watched.changes()).extracting(TaskChangeDto::getId).containsExactly("b", "b");
+        assertThat(watched.changes()).extracting(TaskChangeDto::getStatus)
+                .containsExactly(TaskStatus.COMPLETED, TaskStatus.IN_PROGRESS);
+        // The bulk update carries no previous status, so only the creation matched PENDING
+        assertThat(pending.changes()).extracting(TaskChangeDto::getId).containsExactly("a");
+    }
+
+    @Test
+    void lastEventId_ResumesFromReplayBuffer() {
+        // Given
+        feed = new RecordingFeed(100, 100);
+        for (String id : List.of("a", "b", "c")) {
+            feed.onTaskChanged(TaskChangedEvent.created(task(id, TaskStatus.PENDING)));
+        }
+
+        // When
+        RecordingEmitter resumed = (RecordingEmitter) feed.subscribe(Set.of(), Set.of(), 1L);
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> resumed.changes().size() == 2);
+        assertThat(resumed.changes()).extracting(TaskChangeDto::getId).containsExactly("b", "c");
+        assertThat(resumed.eventNames()).doesNotContain("reset");
+    }
+
+    @Test
+    void lastEventId_OlderThanReplayBuffer_SendsReset() {
+        // Given
+        feed = new RecordingFeed(2, 100);
+        for (String id : List.of("a", "b", "c", "d")) {
+            feed.onTaskChanged(TaskChangedEvent.created(task(id, TaskStatus.PENDING)));
+        }
+
+        // When
+        RecordingEmitter resumed = (RecordingEmitter) feed.subscribe(Set.of(), Set.of(), 0L);
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> resumed.changes().size() == 2);
+        assertThat(resumed.eventNames()).first().isEqualTo("reset");
+        assertThat(resumed.changes()).extracting(TaskChangeDto::getId).containsExactly("c", "d");
+    }
+
+    @Test
+    void lastEventId_FromAPreviousBoot_SendsResetInsteadOfReplaying() {
+        // Given: the previous run handed out more ids than this one has so far
+        TaskChangeFeed previousBoot = new RecordingFeed(100, 100, 1_000);
+        RecordingEmitter before = (RecordingEmitter) previousBoot.subscribe(Set.of(), Set.of(), null);
+        for (String id : List.of("a", "b", "c", "d", "e")) {
+            previousBoot.onTaskChanged(TaskChangedEvent.created(task(id, TaskStatus.PENDING)));
+        }
+        await().atMost(Duration.ofSeconds(5)).until(() -> before.eventIds().size() == 5);
+        long lastSeenBeforeRestart = before.eventIds().get(3);
+        previousBoot.destroy();
+
+        feed = new RecordingFeed(100, 100, 2_000);
+        feed.onTaskChanged(TaskChangedEvent.created(task("f", TaskStatus.PENDING)));
+
+        // When
+        RecordingEmitter resumed = (RecordingEmitter) feed.subscribe(Set.of(), Set.of(), lastSeenBeforeRestart);
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> resumed.changes().size() == 1);
+        assertThat(resumed.eventNames()).first().isEqualTo("reset");
+        assertThat(resumed.changes()).extracting(TaskChangeDto::getId).containsExactly("f");
+    }
+
+    @Test
+    void lastEventId_AheadOfThisRun_SendsReset() {
+        // Given: both runs numbered from the same start, as without a per-boot epoch
+        feed = new RecordingFeed(100, 100, 1);
+        feed.onTaskChanged(TaskChangedEvent.created(task("a", TaskStatus.PENDING)));
+
+        // When
+        RecordingEmitter resumed = (RecordingEmitter) feed.subscribe(Set.of(), Set.of(), 5L);
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> resumed.changes().size() == 1);
+        assertThat(resumed.eventNames()).first().isEqualTo("reset");
+        assertThat(resumed.changes()).extracting(TaskChangeDto::getId).containsExactly("a");
+    }
+
+    @Test
+    void concurrentPublishers_DeliverEverySequenceInOrder() throws Exception {
+        // Given
+        int perPublisher = 500;
+        feed = new RecordingFeed(2 * perPublisher, 2 * perPublisher);
+        RecordingEmitter subscriber = (RecordingEmitter) feed.subscribe(Set.of(), Set.of(), null);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When: two commits publish at the same time, each change to a different task
+        ExecutorService publishers = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<?>> done = new ArrayList<>();
+            for (String prefix : List.of("a", "b")) {
+                done.add(publishers.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perPublisher; i++) {
+                        feed.onTaskChanged(TaskChangedEvent.created(task(prefix + i, TaskStatus.PENDING)));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> publisher : done) {
+                publisher.get();
+            }
+        } finally {
+            publishers.shutdownNow();
+        }
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> subscriber.eventIds().size() == 2 * perPublisher);
+        List<Long> ids = subscriber.eventIds();
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(ids.get(i)).isEqualTo(ids.get(i - 1) + 1);
+        }
+        assertThat(subscriber.eventNames()).doesNotContain("reset");
+    }
+
+    @Test
+    void slowSubscriber_ReceivesOnlyLatestChangePerTask() {
+        // Given
+        feed = new RecordingFeed(100, 100);
+        RecordingEmitter slow = (RecordingEmitter) feed.subscribe(Set.of(), Set.of(), null);
+        CountDownLatch release = slow.blockNextSend();
+        Tasks task = task("a", TaskStatus.PENDING);
+        feed.onTaskChanged(TaskChangedEvent.created(task));
+        await().atMost(Duration.ofSeconds(5)).until(slow::isBlocked);
+
+        // When
+        for (TaskStatus status : List.of(TaskStatus.IN_PROGRESS, TaskStatus.COMPLETED, TaskStatus.PENDING)) {
+            TaskStatus previous = task.getStatus();
+            task.setStatus(status);
+            feed.onTaskChanged(TaskChangedEvent.updated(task, previous));
+        }
+        release.countDown();
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> slow.changes().size() == 2);
+        assertThat(slow.changes()).extracting(TaskChangeDto::getType)
+                .containsExactly(TaskChangedEvent.Type.CREATED, TaskChangedEvent.Type.UPDATED);
+        assertThat(slow.changes().get(1).getPreviousStatus()).isEqualTo(TaskStatus.COMPLETED);
+    }
+
+    @Test
+    void subscriberFallingTooFarBehind_IsReset() {
+        // Given
+        feed = new RecordingFeed(100, 2);
+        RecordingEmitter slow = (RecordingEmitter) feed.subscribe(Set.of(), Set.of(), null);
+        CountDownLatch release = slow.blockNextSend();
+        feed.onTaskChanged(TaskChangedEvent.created(task("a", TaskStatus.PENDING)));
+        await().atMost(Duration.ofSeconds(5)).until(slow::isBlocked);
+
+        // When
+        for (String id : List.of("b", "c", "d")) {
+            feed.onTaskChanged(TaskChangedEvent.created(task(id, TaskStatus.PENDING)));
+        }
+        release.countDown();
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> slow.eventNames().contains("reset"));
+        assertThat(slow.changes()).extracting(TaskChangeDto::getId).containsExactly("a");
+    }
+
+    @Test
+    void failedSend_RemovesSubscriber() {
+        // Given
+        feed = new RecordingFeed(100, 100);
+        RecordingEmitter gone = (RecordingEmitter) feed.subscribe(Set.of(), Set.of(), null);
+        gone.failSends();
+
+        // When
+        feed.heartbeat();
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> feed.subscriberCount() == 0);
+    }
+
+    private static Tasks task(String id, TaskStatus status) {
+        Tasks task = new Tasks();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setStatus(status);
+        task.setDueDate(LocalDateTime.of(2025, 4, 20, 9, 0));
+        return task;
+    }
+
+    private static class RecordingFeed extends TaskChangeFeed {
+
+        RecordingFeed(int replaySize, int maxPending) {
+            this(replaySize, maxPending, 1);
+        }
+
+        RecordingFeed(int replaySize, int maxPending, long firstSeq) {
+            super(replaySize, 100, maxPending, Duration.ofMinutes(1), firstSeq);
+        }
+
+        @Override
+        protected SseEmitter createEmitter(long timeoutMillis) {
+            return new RecordingEmitter(timeoutMillis);
+        }
+    }
+
+    // Captures events instead of writing them to a response
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<TaskChangeDto> changes = new CopyOnWriteArrayList<>();
+        private final List<String> eventNames = new CopyOnWriteArrayList<>();
+        private final List<Long> eventIds = new CopyOnWriteArrayList<>();
+        private volatile CountDownLatch gate;
+        private volatile boolean blocked;
+        private volatile boolean failing;
+
+        RecordingEmitter(long timeout) {
+            super(timeout);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            CountDownLatch latch = gate;
+            if (latch != null) {
+                gate = null;
+                blocked = true;
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            for (DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof TaskChangeDto change) {
+                    changes.add(change);
+                } else if (part.getData() instanceof String text && text.contains("event:")) {
+                    int start = text.indexOf("event:") + "event:".length();
+                    eventNames.add(text.substring(start, text.indexOf('\n', start)));
+                    if (text.contains("id:")) {
+                        int idStart = text.indexOf("id:") + "id:".length();
+                        eventIds.add(Long.parseLong(text.substring(idStart, text.indexOf('\n', idStart))));
+                    }
+                }
+            }
+        }
+
+        CountDownLatch blockNextSend() {
+            CountDownLatch latch = new CountDownLatch(1);
+            gate = latch;
+            return latch;
+        }
+
+        boolean isBlocked() {
+            return blocked;
+        }
+
+        void failSends() {
+            failing = true;
+        }
+
+        List<TaskChangeDto> changes() {
+            return new ArrayList<>(changes);
+        }
+
+        List<String> eventNames() {
+            return new ArrayList<>(eventNames);
+        }
+
+        List<Long> eventIds() {
+            return new ArrayList<>(eventIds);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.core.hmcts;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.core.hmcts.event.TaskChangedEvent;
+import com.core.hmcts.event.TaskOverdueEvent;
+import com.core.hmcts.model.dao.TasksDao;
+import com.core.hmcts.model.entity.Tasks;
+import com.core.hmcts.model.entity.Tasks.TaskStatus;
+import com.core.hmcts.service.TaskDueTimer;
+
+public class TaskDueTimerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 4, 10, 12, 0);
+
+    private final MutableClock clock = new MutableClock(NOW.toInstant(ZoneOffset.UTC));
+
+    private final List<TaskOverdueEvent> published = new ArrayList<>();
+
+    private TasksDao tasksDao;
+
+    private TaskDueTimer timer;
+
+    @BeforeEach
+    void setup() {
+        tasksDao = mock(TasksDao.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        ApplicationEventPublisher eventPublisher = event -> {
+            if (event instanceof TaskOverdueEvent overdueEvent) {
+                published.add(overdueEvent);
+            }
+        };
+        timer = new TaskDueTimer(tasksDao, transactionManager, eventPublisher, clock, Duration.ofSeconds(1), 8, false);
+    }
+
+    @Test
+    void tick_FiresTasksAsTheirDueDatePasses() {
+        // Given
+        timer.onTaskChanged(TaskChangedEvent.created(task("soon", TaskStatus.PENDING, NOW.plusSeconds(3))));
+        // Far enough out to sit several levels up the wheel
+        timer.onTaskChanged(TaskChangedEvent.created(task("later", TaskStatus.PENDING, NOW.plusDays(3))));
+
+        // When
+        advance(Duration.ofSeconds(2));
+
+        // Then
+        assertThat(published).isEmpty();
+
+        // When
+        advance(Duration.ofSeconds(1));
+
+        // Then
+        assertThat(published).containsExactly(new TaskOverdueEvent("soon", NOW.plusSeconds(3)));
+        assertThat(timer.isOverdue("soon")).isTrue();
+
+        // When
+        clock.advance(Duration.ofDays(3).minusSeconds(4));
+        timer.tick();
+
+        // Then
+        assertThat(timer.isOverdue("later")).isFalse();
+
+        // When
+        advance(Duration.ofSeconds(1));
+
+        // Then
+        assertThat(published).extracting(TaskOverdueEvent::id).containsExactly("soon", "later");
+        assertThat(timer.overdueCount()).isEqualTo(2);
+        assertThat(timer.scheduledCount()).isZero();
+    }
+
+    @Test
+    void completingOrDeleting_CancelsTimerAndClearsOverdue() {
+        // Given
+        Tasks completed = task("completed", TaskStatus.PENDING, NOW.plusSeconds(5));
+        Tasks deleted = task("deleted", TaskStatus.IN_PROGRESS, NOW.minusDays(1));
+        timer.onTaskChanged(TaskChangedEvent.created(completed));
+        timer.onTaskChanged(TaskChangedEvent.created(deleted));
+        assertThat(timer.isOverdue("deleted")).isTrue();
+
+        // When
+        completed.setStatus(TaskStatus.COMPLETED);
+        timer.onTaskChanged(TaskChangedEvent.updated(completed, TaskStatus.PENDING));
+        timer.onTaskChanged(TaskChangedEvent.deleted(deleted));
+        advance(Duration.ofSeconds(10));
+
+        // Then
+        assertThat(published).extracting(TaskOverdueEvent::id).containsExactly("deleted");
+        assertThat(timer.overdueCount()).isZero();
+        assertThat(timer.scheduledCount()).isZero();
+    }
+
+    @Test
+    void load_SchedulesOpenTasksWithoutAnnouncingPastOnes() {
+        // Given
+        when(tasksDao.streamDueDatesByStatusNot(TaskStatus.COMPLETED)).thenReturn(Stream.of(
+                dueDate("past", NOW.minusHours(1)),
+                dueDate("future", NOW.plusSeconds(2))));
+
+        // When
+        timer.load();
+
+        // Then
+        assertThat(timer.isOverdue("past")).isTrue();
+        assertThat(published).isEmpty();
+
+        // When
+        advance(Duration.ofSeconds(2));
+
+        // Then
+        assertThat(published).containsExactly(new TaskOverdueEvent("future", NOW.plusSeconds(2)));
+    }
+
+    private void advance(Duration duration) {
+        for (long i = 0; i < duration.toSeconds(); i++) {
+            clock.advance(Duration.ofSeconds(1));
+            timer.tick();
+        }
+    }
+
+    private static Tasks task(String id, TaskStatus status, LocalDateTime dueDate) {
+        Tasks task = new Tasks();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setStatus(status);
+        task.setDueDate(dueDate);
+        return task;
+    }
+
+    private static TasksDao.TaskDueDate dueDate(String id, LocalDateTime dueDate) {
+        return new TasksDao.TaskDueDate() {
+            @Override
+            public String getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getDueDate() {
+                return dueDate;
+            }
+        };
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
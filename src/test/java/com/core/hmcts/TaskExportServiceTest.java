@@ -0,0 +1,100 @@
+package com.core.hmcts;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.core.hmcts.model.dao.TasksDao;
+import com.core.hmcts.model.entity.Tasks;
+import com.core.hmcts.model.entity.Tasks.TaskStatus;
+import com.core.hmcts.service.TaskExportService.Format;
+import com.core.hmcts.service.TaskExportServiceImpl;
+
+import jakarta.persistence.EntityManager;
+
+public class TaskExportServiceTest {
+
+    private TasksDao tasksDao;
+
+    private TaskExportServiceImpl exportService;
+
+    @BeforeEach
+    void setup() {
+        tasksDao = mock(TasksDao.class);
+        exportService = new TaskExportServiceImpl(tasksDao, mock(EntityManager.class), mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void csvExport_WritesHeaderColumnsInOrderAndQuotesSpecialCharacters() throws Exception {
+        // Given
+        when(tasksDao.streamAllOrdered()).thenReturn(Stream.of(plainTask(), awkwardTask()));
+
+        // When
+        String csv = export(Format.CSV);
+
+        // Then
+        assertThat(csv).isEqualTo(
+                "id,title,description,status,dueDate,createdAt,updatedAt\n"
+                + "a,Prepare bundle,,PENDING,2030-01-01 09:00:00,2025-04-01T09:00:00Z,2025-04-01T09:00:00Z\n"
+                + "b,\"Call \"\"Bob\"\", then\nfile\",Plain,COMPLETED,2030-01-02 17:30:00,2025-04-01T09:00:00Z,2025-04-02T10:30:00Z\n");
+    }
+
+    @Test
+    void ndjsonExport_WritesOneObjectPerLineLikeOtherResponses() throws Exception {
+        // Given
+        when(tasksDao.streamAllOrdered()).thenReturn(Stream.of(plainTask(), awkwardTask()));
+
+        // When
+        String ndjson = export(Format.NDJSON);
+
+        // Then: timestamps as epoch millis, the same as GET /tasks
+        assertThat(ndjson).isEqualTo(
+                "{\"id\":\"a\",\"title\":\"Prepare bundle\",\"description\":null,\"status\":\"PENDING\","
+                + "\"dueDate\":\"2030-01-01 09:00:00\",\"createdAt\":1743498000000,\"updatedAt\":1743498000000}\n"
+                + "{\"id\":\"b\",\"title\":\"Call \\\"Bob\\\", then\\nfile\",\"description\":\"Plain\",\"status\":\"COMPLETED\","
+                + "\"dueDate\":\"2030-01-02 17:30:00\",\"createdAt\":1743498000000,\"updatedAt\":1743589800000}\n");
+    }
+
+    private String export(Format format) throws Exception {
+        ResponseEntity<StreamingResponseBody> response = exportService.exportTasks(format);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static Tasks plainTask() {
+        Tasks task = new Tasks();
+        task.setId("a");
+        task.setTitle("Prepare bundle");
+        task.setStatus(TaskStatus.PENDING);
+        task.setDueDate(LocalDateTime.of(2030, 1, 1, 9, 0));
+        task.setCreatedAt(Timestamp.from(Instant.parse("2025-04-01T09:00:00Z")));
+        task.setUpdatedAt(Timestamp.from(Instant.parse("2025-04-01T09:00:00Z")));
+        return task;
+    }
+
+    private static Tasks awkwardTask() {
+        Tasks task = new Tasks();
+        task.setId("b");
+        task.setTitle("Call \"Bob\", then\nfile");
+        task.setDescription("Plain");
+        task.setStatus(TaskStatus.COMPLETED);
+        task.setDueDate(LocalDateTime.of(2030, 1, 2, 17, 30));
+        task.setCreatedAt(Timestamp.from(Instant.parse("2025-04-01T09:00:00Z")));
+        task.setUpdatedAt(Timestamp.from(Instant.parse("2025-04-02T10:30:00Z")));
+        return task;
+    }
+}
@@ -0,0 +1,78 @@
+package com.core.hmcts;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.core.hmcts.model.dao.TaskField;
+import com.core.hmcts.model.dao.TaskSpecifications;
+import com.core.hmcts.model.dao.TasksDao;
+import com.core.hmcts.model.dto.TaskFilterDto;
+import com.core.hmcts.model.entity.Tasks;
+import com.core.hmcts.model.entity.Tasks.TaskStatus;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("embedded")
+public class TaskFieldsRepositoryTests {
+
+    @Autowired
+    private TasksDao tasksDao;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void findFields_ReturnsOnlyRequestedColumnsWithoutManagingEntities() {
+        // Given
+        tasksDao.saveAll(List.of(
+                task("Second", TaskStatus.PENDING, LocalDateTime.of(2041, 1, 2, 9, 0)),
+                task("First", TaskStatus.PENDING, LocalDateTime.of(2041, 1, 1, 9, 0)),
+                task("Done", TaskStatus.COMPLETED, LocalDateTime.of(2041, 1, 3, 9, 0))));
+        entityManager.flush();
+        entityManager.clear();
+        TaskFilterDto filter = new TaskFilterDto();
+        filter.setStatus(TaskStatus.PENDING);
+        filter.setDueAfter(LocalDateTime.of(2041, 1, 1, 0, 0));
+        filter.setDueBefore(LocalDateTime.of(2041, 2, 1, 0, 0));
+
+        // When
+        List<Map<String, Object>> rows = tasksDao.findFields(EnumSet.of(TaskField.TITLE, TaskField.DUE_DATE),
+                TaskSpecifications.matching(filter), PageRequest.of(0, 10, Sort.by("dueDate")));
+
+        // Then
+        assertThat(rows).containsExactly(
+                Map.of("title", "First", "dueDate", "2041-01-01 09:00:00"),
+                Map.of("title", "Second", "dueDate", "2041-01-02 09:00:00"));
+        assertThat(entityManager.getEntityManager().unwrap(Session.class)
+                .getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    void findFieldsById_UnknownId_ReturnsNull() {
+        // When & Then
+        assertThat(tasksDao.findFieldsById("00000000-0000-0000-0000-000000000000", EnumSet.of(TaskField.ID))).isNull();
+    }
+
+    private static Tasks task(String title, TaskStatus status, LocalDateTime dueDate) {
+        Tasks task = new Tasks();
+        task.setTitle(title);
+        task.setDescription("A description the list view never needs");
+        task.setStatus(status);
+        task.setDueDate(dueDate);
+        return task;
+    }
+}
@@ -0,0 +1,121 @@
+package com.core.hmcts;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.sql.DataSource;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import com.core.hmcts.model.dao.TaskSpecifications;
+import com.core.hmcts.model.dao.TasksDao;
+import com.core.hmcts.model.dto.TaskFilterDto;
+import com.core.hmcts.model.entity.Tasks.TaskStatus;
+
+/**
+ * Runs the SQL Hibernate generates for each filter through SQLite's EXPLAIN QUERY PLAN and checks
+ * it seeks on the declared index instead of scanning tbl_tasks.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("embedded")
+@TestPropertySource(properties =
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.core.hmcts.TaskIndexPlanTests$CapturingInspector")
+public class TaskIndexPlanTests {
+
+    @Autowired
+    private TasksDao tasksDao;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 4, 3, 14, 30);
+
+    @BeforeEach
+    void clearCapturedStatements() {
+        CapturingInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void statusAndDueDateFilter_UsesCompositeIndex() throws Exception {
+        TaskFilterDto filter = new TaskFilterDto();
+        filter.setStatus(TaskStatus.PENDING);
+        filter.setDueBefore(NOW);
+
+        assertThat(planFor(filter)).contains("USING INDEX idx_tasks_status_due_date");
+    }
+
+    @Test
+    void dueDateRangeFilter_UsesDueDateIndex() throws Exception {
+        TaskFilterDto filter = new TaskFilterDto();
+        filter.setDueAfter(NOW.minusDays(7));
+        filter.setDueBefore(NOW);
+
+        assertThat(planFor(filter)).contains("USING INDEX idx_tasks_due_date");
+    }
+
+    @Test
+    void createdRangeFilter_UsesCreatedAtIndex() throws Exception {
+        TaskFilterDto filter = new TaskFilterDto();
+        filter.setCreatedFrom(NOW.minusDays(1));
+
+        assertThat(planFor(filter)).contains("idx_tasks_created_at_id");
+    }
+
+    @Test
+    void updatedRangeFilter_UsesUpdatedAtIndex() throws Exception {
+        TaskFilterDto filter = new TaskFilterDto();
+        filter.setUpdatedFrom(NOW.minusDays(1));
+        filter.setUpdatedTo(NOW);
+
+        assertThat(planFor(filter)).contains("USING INDEX idx_tasks_updated_at");
+    }
+
+    private String planFor(TaskFilterDto filter) throws Exception {
+        tasksDao.findAll(TaskSpecifications.matching(filter), PageRequest.of(0, 20));
+        String sql = CapturingInspector.STATEMENTS.stream()
+            .filter(statement -> statement.toLowerCase().startsWith("select") && statement.contains("tbl_tasks"))
+            .findFirst()
+            .orElseThrow();
+
+        StringBuilder plan = new StringBuilder();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement explain = connection.prepareStatement("EXPLAIN QUERY PLAN " + sql)) {
+            int parameters = explain.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                explain.setObject(i, null);
+            }
+            try (ResultSet rows = explain.executeQuery()) {
+                while (rows.next()) {
+                    plan.append(rows.getString("detail")).append('\n');
+                }
+            }
+        }
+        assertThat(plan.toString()).doesNotContainPattern("SCAN (tbl_tasks|t1_0)\\b(?! USING)");
+        return plan.toString();
+    }
+
+    public static class CapturingInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.core.hmcts;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The service timers only exist while the TimedAspect is wired in, and the query and slow query
+ * meters depend on MetricsConfig; a configuration slip would drop them without any error.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("embedded")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:sqlite:target/metrics-tests.db?busy_timeout=10000",
+        // Every repository call counts as slow, so the counter is registered by the requests below
+        "tasks.metrics.slow-query-threshold=0ms"
+})
+public class TaskMetricsTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void createAndGet_RecordServiceTimersQueryCountsAndSlowQueries() throws Exception {
+        // Given
+        String location = mockMvc.perform(post("/tasks/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Metrics\",\"description\":\"Timed\",\"dueDate\":\"2030-01-01T09:00\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+
+        // When
+        mockMvc.perform(get(location)).andExpect(status().isOk());
+
+        // Then
+        assertThat(meterRegistry.get("tasks.service").tag("operation", "addTask").timer().count()).isPositive();
+        assertThat(meterRegistry.get("tasks.service").tag("operation", "getTask").timer().count()).isPositive();
+        assertThat(meterRegistry.get("tasks.request.queries").tag("endpoint", "getTaskById").summary().count()).isPositive();
+        assertThat(meterRegistry.get("tasks.repository.slow").tag("repository", "TasksDao").counters()).isNotEmpty();
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(scrape).contains("tasks_service_seconds_bucket{").contains("operation=\"getTask\"");
+    }
+}
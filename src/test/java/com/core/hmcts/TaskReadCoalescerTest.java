@@ -0,0 +1,200 @@
+package com.core.hmcts;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.core.hmcts.event.TaskChangedEvent;
+import com.core.hmcts.model.dao.ReadWriteRoutingDataSource;
+import com.core.hmcts.model.entity.Tasks;
+import com.core.hmcts.service.TaskReadCoalescer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class TaskReadCoalescerTest {
+    private static final int CALLERS = 50;
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private TaskReadCoalescer coalescer;
+    private SimpleMeterRegistry registry;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setup() {
+        coalescer = new TaskReadCoalescer();
+        registry = new SimpleMeterRegistry();
+        coalescer.bindTo(registry);
+        callers = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void concurrentReadsOfOneTask_ShareASingleLoad() throws Exception {
+        // Given
+        Tasks task = new Tasks();
+        List<Future<Tasks>> results = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(callers.submit(() -> coalescer.task("a", null, blockingLoad(task))));
+        }
+        awaitFollowers(CALLERS - 1);
+        release.countDown();
+
+        // Then
+        for (Future<Tasks> result : results) {
+            assertThat(result.get()).isSameAs(task);
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(registry.get("tasks.reads.coalesced").tag("read", "task").functionCounter().count()).isEqualTo(CALLERS - 1);
+        assertThat(registry.get("tasks.reads.loads").tag("read", "task").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("tasks.reads.inflight").gauge().value()).isZero();
+    }
+
+    @Test
+    void concurrentIdenticalPages_ShareASingleLoadButDifferentPagesDoNot() throws Exception {
+        // Given
+        List<Future<List<Tasks>>> results = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < CALLERS; i++) {
+            String query = "page=" + (i % 2);
+            results.add(callers.submit(() -> coalescer.page(query, blockingLoad(List.of(new Tasks())))));
+        }
+        awaitFollowers(CALLERS - 2);
+        release.countDown();
+
+        // Then
+        for (Future<List<Tasks>> result : results) {
+            assertThat(result.get()).hasSize(1);
+        }
+        assertThat(loads).hasValue(2);
+        assertThat(registry.get("tasks.reads.coalesced").tag("read", "page").functionCounter().count()).isEqualTo(CALLERS - 2);
+    }
+
+    @Test
+    void pinnedCallers_NeverJoinOrLeadASharedLoad() throws Exception {
+        // Given: unpinned callers waiting on a load that reads a replica
+        Tasks fromReplica = new Tasks();
+        List<Future<Tasks>> unpinned = new ArrayList<>();
+        for (int i = 0; i < CALLERS / 2; i++) {
+            unpinned.add(callers.submit(() -> coalescer.task("a", null, blockingLoad(fromReplica))));
+        }
+        awaitFollowers(CALLERS / 2 - 1);
+
+        // When: callers inside a read-your-writes window ask for the same task, and for the same page
+        int pinnedCallers = 20;
+        List<Future<Object>> pinned = new ArrayList<>();
+        for (int i = 0; i < pinnedCallers; i++) {
+            boolean page = i % 2 == 0;
+            pinned.add(callers.submit(() -> {
+                boolean wasPinned = ReadWriteRoutingDataSource.pinToPrimary();
+                try {
+                    return page ? coalescer.page("page=0", () -> List.of(new Tasks())) : coalescer.task("a", null, Tasks::new);
+                } finally {
+                    ReadWriteRoutingDataSource.unpin(wasPinned);
+                }
+            }));
+        }
+
+        // Then: each pinned caller loaded its own result while the shared load was still blocked
+        for (Future<Object> result : pinned) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isNotSameAs(fromReplica);
+        }
+        assertThat(coalescer.saved()).isEqualTo(CALLERS / 2 - 1);
+        assertThat(registry.get("tasks.reads.loads").tag("read", "task").functionCounter().count()).isEqualTo(1 + pinnedCallers / 2);
+        assertThat(registry.get("tasks.reads.loads").tag("read", "page").functionCounter().count()).isEqualTo(pinnedCallers / 2);
+
+        release.countDown();
+        for (Future<Tasks> result : unpinned) {
+            assertThat(result.get()).isSameAs(fromReplica);
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void failedLoad_FailsEveryWaitingCallerAndIsNotRemembered() throws Exception {
+        // Given
+        Supplier<Tasks> failing = blockingSupplier(() -> {
+            throw new IllegalStateException("database down");
+        });
+        List<Future<Tasks>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(callers.submit(() -> coalescer.task("a", null, failing)));
+        }
+        awaitFollowers(4);
+
+        // When
+        release.countDown();
+
+        // Then
+        for (Future<Tasks> result : results) {
+            assertThatThrownBy(result::get).hasRootCauseInstanceOf(IllegalStateException.class);
+        }
+        assertThat(coalescer.task("a", null, () -> new Tasks())).isNotNull();
+    }
+
+    @Test
+    void changeToTask_StartsAFreshLoadForLaterCallers() throws Exception {
+        // Given
+        Tasks stale = new Tasks();
+        Tasks fresh = new Tasks();
+        fresh.setId("a");
+        Future<Tasks> before = callers.submit(() -> coalescer.task("a", null, blockingLoad(stale)));
+        await().atMost(Duration.ofSeconds(5)).until(() -> loads.get() == 1);
+
+        // When
+        coalescer.onTaskChanged(TaskChangedEvent.updated(fresh, Tasks.TaskStatus.PENDING));
+        Tasks after = coalescer.task("a", null, () -> fresh);
+        release.countDown();
+
+        // Then
+        assertThat(after).isSameAs(fresh);
+        assertThat(before.get()).isSameAs(stale);
+        assertThat(coalescer.saved()).isZero();
+    }
+
+    private <T> Supplier<T> blockingLoad(T value) {
+        return blockingSupplier(() -> value);
+    }
+
+    // Holds the leader inside its load until the test releases it, so followers pile up behind it
+    private <T> Supplier<T> blockingSupplier(Supplier<T> value) {
+        return () -> {
+            loads.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return value.get();
+        };
+    }
+
+    private void awaitFollowers(int followers) {
+        await().atMost(Duration.ofSeconds(5)).until(() -> coalescer.saved() == followers);
+    }
+}
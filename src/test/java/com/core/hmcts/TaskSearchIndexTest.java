@@ -0,0 +1,97 @@
+package com.core.hmcts;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.core.hmcts.event.TaskChangedEvent;
+import com.core.hmcts.event.TasksBulkUpdatedEvent;
+import com.core.hmcts.model.dao.TasksDao;
+import com.core.hmcts.model.dto.TaskSearchHitDto;
+import com.core.hmcts.model.entity.Tasks;
+import com.core.hmcts.service.TaskSearchIndex;
+
+import jakarta.persistence.EntityManager;
+
+public class TaskSearchIndexTest {
+
+    private TaskSearchIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new TaskSearchIndex(mock(TasksDao.class), mock(EntityManager.class), mock(PlatformTransactionManager.class), false);
+    }
+
+    @Test
+    void search_RanksTitleMatchesAboveDescriptionMatches() {
+        // Given
+        index.onTaskChanged(TaskChangedEvent.created(task("1", "Prepare hearing bundle", "Collect exhibits")));
+        index.onTaskChanged(TaskChangedEvent.created(task("2", "Call applicant", "Discuss the hearing date and bundle")));
+        index.onTaskChanged(TaskChangedEvent.created(task("3", "File order", "Nothing relevant")));
+
+        // When
+        List<TaskSearchHitDto> hits = index.search("Hearing BUNDLE", 10);
+
+        // Then
+        assertThat(hits).extracting(TaskSearchHitDto::getId).containsExactly("1", "2");
+        assertThat(hits.get(0).getScore()).isGreaterThan(hits.get(1).getScore());
+    }
+
+    @Test
+    void search_ReflectsUpdatesAndDeletes() {
+        // Given
+        Tasks task = task("1", "Prepare hearing bundle", null);
+        index.onTaskChanged(TaskChangedEvent.created(task));
+        index.onTasksBulkUpdated(new TasksBulkUpdatedEvent(List.of("1"), Tasks.TaskStatus.COMPLETED));
+
+        // Then
+        assertThat(index.search("bundle", 10)).singleElement()
+            .extracting(TaskSearchHitDto::getStatus).isEqualTo(Tasks.TaskStatus.COMPLETED);
+
+        // When
+        index.onTaskChanged(TaskChangedEvent.deleted(task));
+
+        // Then
+        assertThat(index.search("bundle", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void rebuild_KeepsBulkUpdateToRowNotYetIndexed() {
+        // Given: the cursor has already read both rows when a bulk update completes the second
+        TasksDao tasksDao = mock(TasksDao.class);
+        index = new TaskSearchIndex(tasksDao, mock(EntityManager.class), mock(PlatformTransactionManager.class), false);
+        Tasks first = task("1", "Prepare hearing bundle", null);
+        Tasks second = task("2", "Serve hearing bundle", null);
+        when(tasksDao.streamAllOrdered()).thenReturn(Stream.of(first, second).map(task -> {
+            if (task == first) {
+                index.onTasksBulkUpdated(new TasksBulkUpdatedEvent(List.of("2"), Tasks.TaskStatus.COMPLETED));
+            }
+            return task;
+        }));
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertThat(index.search("serve", 10)).singleElement()
+            .extracting(TaskSearchHitDto::getStatus).isEqualTo(Tasks.TaskStatus.COMPLETED);
+        assertThat(index.search("prepare", 10)).singleElement()
+            .extracting(TaskSearchHitDto::getStatus).isEqualTo(Tasks.TaskStatus.PENDING);
+    }
+
+    private static Tasks task(String id, String title, String description) {
+        Tasks task = new Tasks();
+        task.setId(id);
+        task.setTitle(title);
+        task.setDescription(description);
+        return task;
+    }
+}
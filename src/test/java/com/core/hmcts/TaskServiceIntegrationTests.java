@@ -2,10 +2,15 @@ package com.core.hmcts;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 
@@ -16,10 +21,12 @@ import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -31,8 +38,12 @@ import com.core.hmcts.model.dto.CreateTaskDto;
 import com.core.hmcts.model.dto.UpdateTaskDto;
 import com.core.hmcts.model.entity.Tasks;
 import com.core.hmcts.model.entity.Tasks.TaskStatus;
+import com.core.hmcts.service.TaskChangeFeed;
+import com.core.hmcts.service.TaskExportService;
 import com.core.hmcts.service.TaskService;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 
 @WebMvcTest(TaskController.class)
 public class TaskServiceIntegrationTests {
@@ -42,6 +53,12 @@ public class TaskServiceIntegrationTests {
     @MockBean
     private TaskService taskService;
 
+    @MockBean
+    private TaskExportService taskExportService;
+
+    @MockBean
+    private TaskChangeFeed taskChangeFeed;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     private String taskId;
@@ -84,6 +101,36 @@ public class TaskServiceIntegrationTests {
             .andExpect(jsonPath("$.data.dueDate").value("2023-12-31 23:59:00"));
     }
 
+    @Test
+    void createTask_CborRequest_ReturnsCborResponse() throws Exception {
+        // Arrange
+        ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+        CreateTaskDto request = new CreateTaskDto("Task Title", "Task Description", "2023-12-31T23:59");
+        Tasks taskResponse = new Tasks();
+        taskResponse.setId(taskId);
+        taskResponse.setTitle(request.getTitle());
+        ResponseEntity<Object> responseEntity = ResponseEntity.created(new URI("/tasks/" + taskId))
+            .body(new DataResponse.ResponseData(201, "Task created successfully", taskResponse));
+        when(taskService.addTask(any(CreateTaskDto.class))).thenReturn((ResponseEntity) responseEntity);
+
+        // Act
+        byte[] body = mockMvc.perform(post("/tasks/create")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR)
+                .content(cborMapper.writeValueAsBytes(request)))
+            .andExpect(status().isCreated())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        ArgumentCaptor<CreateTaskDto> captor = ArgumentCaptor.forClass(CreateTaskDto.class);
+        verify(taskService).addTask(captor.capture());
+        assertThat(captor.getValue().getTitle()).isEqualTo("Task Title");
+        JsonNode response = cborMapper.readTree(body);
+        assertThat(response.get("code").asInt()).isEqualTo(201);
+        assertThat(response.get("data").get("id").asText()).isEqualTo(taskId);
+    }
+
     @Test
     void getTask_ExistingId_ReturnsTask() throws Exception {
         // Arrange
@@ -109,6 +156,49 @@ public class TaskServiceIntegrationTests {
                 .andExpect(jsonPath("$.data.description").value("Existing Task Description"));
     }
 
+    @Test
+    void getTask_MatchingIfNoneMatch_ReturnsNotModifiedWithoutLoadingTask() throws Exception {
+        // Arrange
+        when(taskService.getTaskEtag(taskId)).thenReturn(taskId + "-18c2f4e5a00");
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/" + taskId)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"" + taskId + "-18c2f4e5a00\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + taskId + "-18c2f4e5a00\""))
+                .andExpect(content().string(""));
+        verify(taskService, never()).getTask(any());
+    }
+
+    @Test
+    void getTask_StaleIfNoneMatch_ReturnsTask() throws Exception {
+        // Arrange
+        Tasks task = new Tasks();
+        task.setId(taskId);
+        when(taskService.getTaskEtag(taskId)).thenReturn(taskId + "-18c2f4e5a01");
+        when(taskService.getTask(taskId)).thenReturn((ResponseEntity) ResponseEntity.ok()
+                .eTag(taskId + "-18c2f4e5a01")
+                .body(new DataResponse.ResponseData(200, "Task retrieve successfully", task)));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/" + taskId)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"" + taskId + "-18c2f4e5a00\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(taskId));
+    }
+
+    @Test
+    void getAllTasks_MatchingIfNoneMatch_ReturnsNotModified() throws Exception {
+        // Arrange
+        when(taskService.getTasksEtag(any(Pageable.class))).thenReturn("5d41402abc4b2a76b9719d911017c592");
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/?page=0&size=2")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"5d41402abc4b2a76b9719d911017c592\""))
+                .andExpect(status().isNotModified());
+        verify(taskService, never()).getTasks(any(Pageable.class));
+    }
+
     @Test
     void getTask_NonExistingId_ReturnsNotFound() throws Exception {
         String wrongTaskId = "123e4567-e89b-12d3-a456-426614174000";
@@ -146,6 +236,28 @@ public class TaskServiceIntegrationTests {
                 .andExpect(jsonPath("$.data[1].id").value("123e4567-e89b-12d3-a456-426614174001"));
     }
 
+    @Test
+    void getAllTasks_OversizedPage_IsCappedAtMaxPageSize() throws Exception {
+        // Arrange
+        when(taskService.getTasks(any(Pageable.class)))
+            .thenReturn((ResponseEntity) ResponseEntity.ok().build());
+
+        // Act
+        mockMvc.perform(get("/tasks/?page=0&size=100000"))
+                .andExpect(status().isOk());
+
+        // Assert
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(taskService).getTasks(captor.capture());
+        assertThat(captor.getValue().getPageSize()).isEqualTo(100);
+    }
+
+    @Test
+    void exportTasks_UnknownFormat_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/tasks/export?format=xml"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void updateTask_ValidRequest_ReturnsUpdatedTask() throws Exception {
         // Arrange
@@ -1,37 +1,86 @@
 package com.core.hmcts;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import com.core.hmcts.handler.DataResponse;
+import com.core.hmcts.handler.TaskCursor;
+import com.core.hmcts.model.dao.ArchivedTasksDao;
+import com.core.hmcts.model.dao.ReadWriteRoutingDataSource;
+import com.core.hmcts.model.dao.TaskField;
 import com.core.hmcts.model.dao.TasksDao;
+import com.core.hmcts.model.dto.BatchItemResultDto;
+import com.core.hmcts.model.dto.BulkStatusUpdateDto;
+import com.core.hmcts.model.dto.BulkUpdateResultDto;
 import com.core.hmcts.model.dto.CreateTaskDto;
+import com.core.hmcts.model.dto.CursorPageDto;
+import com.core.hmcts.model.dto.TaskFilterDto;
 import com.core.hmcts.model.dto.UpdateTaskDto;
+import com.core.hmcts.model.entity.ArchivedTasks;
 import com.core.hmcts.model.entity.Tasks;
+import com.core.hmcts.event.TaskChangedEvent;
+import com.core.hmcts.event.TasksBulkUpdatedEvent;
+import com.core.hmcts.service.TaskBatchWriter;
+import com.core.hmcts.service.TaskCache;
+import com.core.hmcts.service.TaskReadCoalescer;
+import com.core.hmcts.service.TaskSearchIndex;
+import com.core.hmcts.service.TaskStatistics;
 import com.core.hmcts.service.TaskServiceImpl;
+import com.core.hmcts.service.TaskWriteBehindQueue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -40,14 +89,44 @@ public class TaskServiceUnitTest {
     @Mock
     private TasksDao tasksDao;
 
+    @Mock
+    private ArchivedTasksDao archivedTasksDao;
+
     @Mock
     private DataResponse dataResponse;
 
+    @Mock
+    private TaskBatchWriter taskBatchWriter;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private TaskCache taskCache;
+
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
+    @Mock
+    private TaskStatistics taskStatistics;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private TaskReadCoalescer readCoalescer = new TaskReadCoalescer();
+
     @InjectMocks
     private TaskServiceImpl taskService;
 
     private String createdTaskId;
 
+    @BeforeEach
+    void readThroughCache() {
+        lenient().when(taskCache.get(any(), any())).thenAnswer(invocation ->
+            invocation.<Function<String, Tasks>>getArgument(1).apply(invocation.getArgument(0)));
+    }
+
     @Test
     void addTask_ValidDto_ReturnsCreatedResponse() {
         // 👇 Mock request context if needed in the service
@@ -89,6 +168,120 @@ public class TaskServiceUnitTest {
         assertThat(capturedTask.getDescription()).isEqualTo(dto.getDescription());
     }
 
+    @Test
+    void addTask_WriteBehind_QueuesTaskWithItsIdAndReturnsAccepted() {
+        // Given
+        TaskWriteBehindQueue writeBehindQueue = mock(TaskWriteBehindQueue.class);
+        when(writeBehindQueue.offer(any(Tasks.class))).thenReturn(true);
+        TaskServiceImpl writeBehindService = writeBehindService(writeBehindQueue);
+
+        // When
+        ResponseEntity<?> response = writeBehindService.addTask(new CreateTaskDto("Queued", "Later", "2030-01-01T09:00"));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        ArgumentCaptor<Tasks> captor = ArgumentCaptor.forClass(Tasks.class);
+        verify(writeBehindQueue).offer(captor.capture());
+        Tasks queued = captor.getValue();
+        assertThat(queued.getId()).isNotNull();
+        assertThat(queued.getTitle()).isEqualTo("Queued");
+        assertThat(queued.getDueDate()).isEqualTo(LocalDateTime.of(2030, 1, 1, 9, 0));
+        assertThat(response.getHeaders().getLocation()).hasToString("/tasks/" + queued.getId());
+        verify(dataResponse).responseData(202, "Task accepted", queued);
+        verifyNoInteractions(tasksDao, eventPublisher);
+    }
+
+    @Test
+    void addTask_WriteBehindQueueFull_ReturnsServiceUnavailableWithRetryAfter() {
+        // Given
+        TaskWriteBehindQueue writeBehindQueue = mock(TaskWriteBehindQueue.class);
+        when(writeBehindQueue.offer(any(Tasks.class))).thenReturn(false);
+        TaskServiceImpl writeBehindService = writeBehindService(writeBehindQueue);
+
+        // When
+        ResponseEntity<?> response = writeBehindService.addTask(new CreateTaskDto("Queued", "Later", "2030-01-01T09:00"));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        verify(dataResponse).responseData(503, "Task intake is full, retry shortly", null);
+        verifyNoInteractions(tasksDao, eventPublisher);
+    }
+
+    @Test
+    void addTask_WriteBehindInvalidDueDate_IsRejectedBeforeQueueing() {
+        // Given
+        TaskWriteBehindQueue writeBehindQueue = mock(TaskWriteBehindQueue.class);
+        TaskServiceImpl writeBehindService = writeBehindService(writeBehindQueue);
+
+        // When
+        ResponseEntity<?> response = writeBehindService.addTask(new CreateTaskDto("Queued", "Later", "01/01/2030"));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(writeBehindQueue);
+    }
+
+    @Test
+    void addTasks_ValidBatch_PersistsInChunksAndReturnsCreated() {
+        // Given
+        List<CreateTaskDto> dtos = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            dtos.add(new CreateTaskDto("Task " + i, null, "2030-01-01T09:00"));
+        }
+        List<Integer> chunkSizes = new ArrayList<>();
+        when(taskBatchWriter.persist(any())).thenAnswer(invocation -> {
+            List<Tasks> chunk = new ArrayList<>(invocation.getArgument(0));
+            chunkSizes.add(chunk.size());
+            chunk.forEach(task -> task.setId(UUID.randomUUID().toString()));
+            return chunk;
+        });
+
+        // When
+        ResponseEntity<?> response = taskService.addTasks(dtos);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(chunkSizes).containsExactly(50, 50, 20);
+        ArgumentCaptor<List<BatchItemResultDto>> captor = ArgumentCaptor.forClass(List.class);
+        verify(dataResponse).responseData(eq(201), eq("Tasks created successfully"), captor.capture());
+        assertThat(captor.getValue()).hasSize(120).allMatch(result -> result.getStatus() == 201 && result.getId() != null);
+    }
+
+    @Test
+    void addTasks_InvalidItems_ReportsPerItemResults() {
+        // Given
+        CreateTaskDto valid = new CreateTaskDto("Valid", null, "2030-01-01T09:00");
+        CreateTaskDto missingTitle = new CreateTaskDto(null, null, "2030-01-01T09:00");
+        CreateTaskDto badDate = new CreateTaskDto("Bad date", null, "01/01/2030");
+
+        ConstraintViolation<CreateTaskDto> violation = mock(ConstraintViolation.class);
+        Path path = mock(Path.class);
+        when(path.toString()).thenReturn("title");
+        when(violation.getPropertyPath()).thenReturn(path);
+        when(violation.getMessage()).thenReturn("Title is required");
+        when(validator.validate(missingTitle)).thenReturn(Set.of(violation));
+        when(taskBatchWriter.persist(any())).thenAnswer(invocation -> {
+            List<Tasks> chunk = new ArrayList<>(invocation.getArgument(0));
+            chunk.forEach(task -> task.setId("generated"));
+            return chunk;
+        });
+
+        // When
+        ResponseEntity<?> response = taskService.addTasks(List.of(valid, missingTitle, badDate));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.MULTI_STATUS);
+        ArgumentCaptor<List<BatchItemResultDto>> captor = ArgumentCaptor.forClass(List.class);
+        verify(dataResponse).responseData(eq(207), eq("Tasks processed with errors"), captor.capture());
+        List<BatchItemResultDto> results = captor.getValue();
+        assertThat(results.get(0).getStatus()).isEqualTo(201);
+        assertThat(results.get(0).getId()).isEqualTo("generated");
+        assertThat(results.get(1).getStatus()).isEqualTo(400);
+        assertThat(results.get(1).getErrors()).containsExactly("title: Title is required");
+        assertThat(results.get(2).getStatus()).isEqualTo(400);
+    }
+
     @Test
     void getTasks_ReturnsPaginatedTasks() {
         // Given
@@ -105,6 +298,91 @@ public class TaskServiceUnitTest {
         verify(dataResponse).responseData(200, "Tasks retrieve successfully", mockPage.toList());
     }
 
+    @Test
+    void getTasks_WithFilter_QueriesBySpecification() {
+        // Given
+        Pageable pageable = Pageable.ofSize(10).withPage(0);
+        TaskFilterDto filter = new TaskFilterDto();
+        filter.setStatus(Tasks.TaskStatus.PENDING);
+        Page<Tasks> mockPage = mock(Page.class);
+        when(tasksDao.findAll(any(Specification.class), eq(pageable))).thenReturn(mockPage);
+        when(mockPage.toList()).thenReturn(List.of(new Tasks()));
+
+        // When
+        ResponseEntity<?> response = taskService.getTasks(filter, pageable);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(tasksDao, never()).findAll(pageable);
+    }
+
+    @Test
+    void scrollTasks_FirstPage_ReturnsNextCursorWithoutCounting() {
+        // Given
+        Tasks first = taskCreatedAt("a", "2025-01-01T10:00:00Z");
+        Tasks second = taskCreatedAt("b", "2025-01-01T10:00:01Z");
+        Tasks extra = taskCreatedAt("c", "2025-01-01T10:00:02Z");
+        when(tasksDao.findFirstKeysetPage(Limit.of(3))).thenReturn(List.of(first, second, extra));
+
+        // When
+        ResponseEntity<?> response = taskService.scrollTasks(null, null, 2);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        ArgumentCaptor<CursorPageDto> captor = ArgumentCaptor.forClass(CursorPageDto.class);
+        verify(dataResponse).responseData(eq(200), eq("Tasks retrieve successfully"), captor.capture());
+        CursorPageDto page = captor.getValue();
+        assertThat(page.getItems()).containsExactly(first, second);
+        assertThat(page.getPrevCursor()).isNull();
+        assertThat(TaskCursor.decode(page.getNextCursor())).isEqualTo(TaskCursor.of(second));
+        verify(tasksDao, never()).count();
+    }
+
+    @Test
+    void scrollTasks_BeforeCursor_ReturnsPreviousPageInOrder() {
+        // Given
+        Tasks anchor = taskCreatedAt("c", "2025-01-01T10:00:02Z");
+        Tasks first = taskCreatedAt("a", "2025-01-01T10:00:00Z");
+        Tasks second = taskCreatedAt("b", "2025-01-01T10:00:01Z");
+        when(tasksDao.findKeysetPageBefore(anchor.getCreatedAt(), "c", Limit.of(3))).thenReturn(List.of(second, first));
+
+        // When
+        ResponseEntity<?> response = taskService.scrollTasks(null, TaskCursor.of(anchor).encode(), 2);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        ArgumentCaptor<CursorPageDto> captor = ArgumentCaptor.forClass(CursorPageDto.class);
+        verify(dataResponse).responseData(eq(200), eq("Tasks retrieve successfully"), captor.capture());
+        CursorPageDto page = captor.getValue();
+        assertThat(page.getItems()).containsExactly(first, second);
+        assertThat(page.getPrevCursor()).isNull();
+        assertThat(TaskCursor.decode(page.getNextCursor())).isEqualTo(TaskCursor.of(second));
+    }
+
+    @Test
+    void scrollTasks_InvalidCursor_ReturnsBadRequest() {
+        // When
+        ResponseEntity<?> response = taskService.scrollTasks("not a cursor!", null, 10);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verify(dataResponse).responseData(eq(400), eq("Invalid cursor"), isNull());
+    }
+
+    @Test
+    void searchTasks_UsesIndexWithoutQueryingDatabase() {
+        // Given
+        when(taskSearchIndex.search("hearing bundle", 100)).thenReturn(List.of());
+
+        // When
+        ResponseEntity<?> response = taskService.searchTasks("hearing bundle", 500);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(taskSearchIndex).search("hearing bundle", 100);
+        verifyNoInteractions(tasksDao);
+    }
+
     @Test
     void updateTask_ExistingId_UpdatesStatusAndReturnsOk() {
         // Given
@@ -122,9 +400,85 @@ public class TaskServiceUnitTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(existingTask.getStatus()).isEqualTo(Tasks.TaskStatus.IN_PROGRESS);
         verify(tasksDao).save(existingTask);
+        verify(eventPublisher).publishEvent(TaskChangedEvent.updated(existingTask, Tasks.TaskStatus.IN_PROGRESS));
         verify(dataResponse).responseData(200, "Task updated successfully", existingTask);
     }
 
+    @Test
+    void bulkUpdateStatus_ByIds_RunsSetBasedUpdateWithoutLoadingTasks() {
+        // Given
+        List<String> ids = List.of("a", "b", "c", "a");
+        BulkStatusUpdateDto bulk = new BulkStatusUpdateDto(ids, null, null, null, Tasks.TaskStatus.COMPLETED);
+        when(tasksDao.countByIdIn(List.of("a", "b", "c"))).thenReturn(3L);
+        // "c" is already completed
+        when(tasksDao.lockIdsForStatusUpdate(List.of("a", "b", "c"), Tasks.TaskStatus.COMPLETED, null, null, null)).thenReturn(List.of("a", "b"));
+        when(tasksDao.updateStatusMatching(eq(List.of("a", "b")), eq(Tasks.TaskStatus.COMPLETED), isNull(), isNull(), isNull(), any(Timestamp.class))).thenReturn(2);
+
+        // When
+        ResponseEntity<?> response = taskService.bulkUpdateStatus(bulk);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(dataResponse).responseData(200, "Tasks updated successfully", new BulkUpdateResultDto(3, 2));
+        verify(eventPublisher).publishEvent(new TasksBulkUpdatedEvent(List.of("a", "b"), Tasks.TaskStatus.COMPLETED));
+        verify(tasksDao, never()).findTasksById(any());
+        verify(tasksDao, never()).save(any());
+    }
+
+    @Test
+    void bulkUpdateStatus_ByFilter_UpdatesMatchingIds() {
+        // Given
+        LocalDateTime dueFrom = LocalDateTime.of(2025, 4, 1, 0, 0);
+        BulkStatusUpdateDto bulk = new BulkStatusUpdateDto(null, Tasks.TaskStatus.IN_PROGRESS, "2025-04-01T00:00", null, Tasks.TaskStatus.COMPLETED);
+        when(tasksDao.findIdsMatching(Tasks.TaskStatus.IN_PROGRESS, dueFrom, null, Limit.of(10_001)))
+            .thenReturn(List.of("a", "b"));
+        when(tasksDao.lockIdsForStatusUpdate(List.of("a", "b"), Tasks.TaskStatus.COMPLETED, Tasks.TaskStatus.IN_PROGRESS, dueFrom, null))
+            .thenReturn(List.of("a", "b"));
+        when(tasksDao.updateStatusMatching(eq(List.of("a", "b")), eq(Tasks.TaskStatus.COMPLETED), eq(Tasks.TaskStatus.IN_PROGRESS),
+            eq(dueFrom), isNull(), any(Timestamp.class))).thenReturn(2);
+
+        // When
+        ResponseEntity<?> response = taskService.bulkUpdateStatus(bulk);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(dataResponse).responseData(200, "Tasks updated successfully", new BulkUpdateResultDto(2, 2));
+    }
+
+    @Test
+    void bulkUpdateStatus_ByFilter_SkipsTasksMovedOutOfFilterBeforeUpdate() {
+        // Given: "b" left IN_PROGRESS between the id lookup and the locking read
+        LocalDateTime dueFrom = LocalDateTime.of(2025, 4, 1, 0, 0);
+        BulkStatusUpdateDto bulk = new BulkStatusUpdateDto(null, Tasks.TaskStatus.IN_PROGRESS, "2025-04-01T00:00", null, Tasks.TaskStatus.COMPLETED);
+        when(tasksDao.findIdsMatching(Tasks.TaskStatus.IN_PROGRESS, dueFrom, null, Limit.of(10_001)))
+            .thenReturn(List.of("a", "b"));
+        when(tasksDao.lockIdsForStatusUpdate(List.of("a", "b"), Tasks.TaskStatus.COMPLETED, Tasks.TaskStatus.IN_PROGRESS, dueFrom, null))
+            .thenReturn(List.of("a"));
+        when(tasksDao.updateStatusMatching(eq(List.of("a")), eq(Tasks.TaskStatus.COMPLETED), eq(Tasks.TaskStatus.IN_PROGRESS),
+            eq(dueFrom), isNull(), any(Timestamp.class))).thenReturn(1);
+
+        // When
+        ResponseEntity<?> response = taskService.bulkUpdateStatus(bulk);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(dataResponse).responseData(200, "Tasks updated successfully", new BulkUpdateResultDto(2, 1));
+        verify(eventPublisher).publishEvent(new TasksBulkUpdatedEvent(List.of("a"), Tasks.TaskStatus.COMPLETED));
+    }
+
+    @Test
+    void bulkUpdateStatus_IdsAndFilter_ReturnsBadRequest() {
+        // Given
+        BulkStatusUpdateDto bulk = new BulkStatusUpdateDto(List.of("a"), Tasks.TaskStatus.PENDING, null, null, Tasks.TaskStatus.COMPLETED);
+
+        // When
+        ResponseEntity<?> response = taskService.bulkUpdateStatus(bulk);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verify(tasksDao, never()).updateStatusMatching(any(), any(), any(), any(), any(), any());
+    }
+
     @Test
     void updateTask_NonExistingId_ReturnsNotFound() {
         // Given
@@ -160,6 +514,164 @@ public class TaskServiceUnitTest {
         verify(dataResponse).responseData(200, "Task retrieve successfully", task);
     }
 
+    @Test
+    void getTask_ArchivedId_FallsBackToArchive() {
+        // Given
+        ArchivedTasks archived = new ArchivedTasks();
+        archived.setId("archived");
+        archived.setTitle("Old task");
+        archived.setStatus(Tasks.TaskStatus.COMPLETED);
+        when(tasksDao.findTasksById("archived")).thenReturn(null);
+        when(archivedTasksDao.findById("archived")).thenReturn(Optional.of(archived));
+
+        // When
+        ResponseEntity<?> response = taskService.getTask("archived");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        ArgumentCaptor<Object> body = ArgumentCaptor.forClass(Object.class);
+        verify(dataResponse).responseData(eq(200), eq("Task retrieve successfully"), body.capture());
+        assertThat(body.getValue()).isInstanceOfSatisfying(Tasks.class, task -> {
+            assertThat(task.getId()).isEqualTo("archived");
+            assertThat(task.getTitle()).isEqualTo("Old task");
+        });
+    }
+
+    @Test
+    void getTasks_WithFields_SelectsOnlyThoseColumns() {
+        // Given
+        Pageable pageable = Pageable.ofSize(20);
+        List<Map<String, Object>> rows = List.of(Map.of("id", "a", "title", "Task a"));
+        when(tasksDao.findFields(Set.of(TaskField.ID, TaskField.TITLE), null, pageable)).thenReturn(rows);
+
+        // When
+        ResponseEntity<?> response = taskService.getTasks(new TaskFilterDto(), pageable, "title, id");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(dataResponse).responseData(200, "Tasks retrieve successfully", rows);
+        verify(tasksDao, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void getTask_WithUnknownField_ReturnsBadRequest() {
+        // When
+        ResponseEntity<?> response = taskService.getTask("a", "id,password");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(tasksDao);
+    }
+
+    @Test
+    void getTask_WithFieldsAndCachedTask_ProjectsWithoutQuery() {
+        // Given
+        Tasks task = new Tasks();
+        task.setId("a");
+        task.setTitle("Cached");
+        task.setDescription("Long description");
+        task.setDueDate(LocalDateTime.of(2030, 1, 1, 9, 0));
+        when(taskCache.getIfPresent("a")).thenReturn(task);
+
+        // When
+        taskService.getTask("a", "id,dueDate");
+
+        // Then
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("id", "a");
+        expected.put("dueDate", "2030-01-01 09:00:00");
+        verify(dataResponse).responseData(200, "Task retrieve successfully", expected);
+        verifyNoInteractions(tasksDao);
+    }
+
+    @Test
+    void getTask_WithUpdatedAt_ReturnsEtagMatchingVersionLookup() {
+        // Given
+        Tasks task = taskCreatedAt("a", "2025-01-01T10:00:00Z");
+        task.setUpdatedAt(Timestamp.from(Instant.parse("2025-01-02T10:00:00Z")));
+        when(tasksDao.findTasksById("a")).thenReturn(task);
+        when(tasksDao.findUpdatedAtById("a")).thenReturn(task.getUpdatedAt());
+
+        // When
+        ResponseEntity<?> response = taskService.getTask("a");
+
+        // Then
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"" + taskService.getTaskEtag("a") + "\"");
+    }
+
+    @Test
+    void getTaskEtag_UnknownId_ReturnsNull() {
+        // Given
+        when(tasksDao.findUpdatedAtById("missing")).thenReturn(null);
+
+        // When & Then
+        assertThat(taskService.getTaskEtag("missing")).isNull();
+        verify(tasksDao, never()).findTasksById(any());
+    }
+
+    @Test
+    void getTaskEtag_CachedTask_SkipsVersionQuery() {
+        // Given
+        Tasks task = taskCreatedAt("a", "2025-01-01T10:00:00Z");
+        task.setUpdatedAt(task.getCreatedAt());
+        when(taskCache.getIfPresent("a")).thenReturn(task);
+
+        // When
+        String etag = taskService.getTaskEtag("a");
+
+        // Then
+        assertThat(etag).isNotNull();
+        verify(tasksDao, never()).findUpdatedAtById(any());
+    }
+
+    @Test
+    void getTask_PinnedToPrimary_IgnoresStaleReplicaCopyInCache() {
+        // Given: a replica that had not caught up served the read that filled the cache
+        TaskCache cache = new TaskCache(100, Duration.ofSeconds(10), new SimpleMeterRegistry());
+        Tasks stale = taskCreatedAt("a", "2025-01-01T10:00:00Z");
+        stale.setStatus(Tasks.TaskStatus.PENDING);
+        cache.get("a", id -> stale);
+        Tasks fresh = taskCreatedAt("a", "2025-01-01T10:00:00Z");
+        fresh.setStatus(Tasks.TaskStatus.COMPLETED);
+        when(tasksDao.findTasksById("a")).thenReturn(fresh);
+        TaskServiceImpl service = new TaskServiceImpl(dataResponse, tasksDao, archivedTasksDao, taskBatchWriter, validator,
+                cache, taskSearchIndex, taskStatistics, eventPublisher, readCoalescer, null);
+
+        // When: the client that just completed the task reads it back
+        boolean wasPinned = ReadWriteRoutingDataSource.pinToPrimary();
+        try {
+            service.getTask("a");
+        } finally {
+            ReadWriteRoutingDataSource.unpin(wasPinned);
+        }
+
+        // Then
+        verify(dataResponse).responseData(200, "Task retrieve successfully", fresh);
+        assertThat(cache.getIfPresent("a")).isSameAs(fresh);
+    }
+
+    @Test
+    void getTaskEtag_PinnedToPrimary_SkipsCache() {
+        // Given
+        Timestamp updatedAt = Timestamp.from(Instant.parse("2025-01-02T10:00:00Z"));
+        lenient().when(taskCache.getIfPresent("a")).thenReturn(taskCreatedAt("a", "2025-01-01T10:00:00Z"));
+        when(tasksDao.findUpdatedAtById("a")).thenReturn(updatedAt);
+
+        // When
+        String etag;
+        boolean wasPinned = ReadWriteRoutingDataSource.pinToPrimary();
+        try {
+            etag = taskService.getTaskEtag("a");
+        } finally {
+            ReadWriteRoutingDataSource.unpin(wasPinned);
+        }
+
+        // Then
+        verify(tasksDao).findUpdatedAtById("a");
+        verify(taskCache, never()).getIfPresent(any());
+        assertThat(etag).isNotNull();
+    }
+
     @Test
     void getTask_NonExistingId_ReturnsNotFound() {
         // Given
@@ -175,6 +687,34 @@ public class TaskServiceUnitTest {
         verify(dataResponse).responseData(404, "Task not found", null);
     }
 
+    @Test
+    void getTask_ConcurrentCallsForOneId_QueryOnce() throws Exception {
+        // Given
+        Tasks task = new Tasks();
+        task.setId("a");
+        CountDownLatch release = new CountDownLatch(1);
+        when(tasksDao.findTasksById("a")).thenAnswer(invocation -> {
+            release.await();
+            return task;
+        });
+        ExecutorService callers = Executors.newFixedThreadPool(20);
+
+        // When
+        List<Future<HttpStatusCode>> statuses = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            statuses.add(callers.submit(() -> taskService.getTask("a").getStatusCode()));
+        }
+        await().atMost(Duration.ofSeconds(5)).until(() -> readCoalescer.saved() == 19);
+        release.countDown();
+
+        // Then
+        for (Future<HttpStatusCode> status : statuses) {
+            assertThat(status.get()).isEqualTo(HttpStatus.OK);
+        }
+        verify(tasksDao, times(1)).findTasksById("a");
+        callers.shutdown();
+    }
+
     @Test
     void deleteTask_ExistingId_ReturnsNoContent() {
         System.out.println(createdTaskId);
@@ -188,6 +728,7 @@ public class TaskServiceUnitTest {
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
         verify(tasksDao).delete(task);
+        verify(eventPublisher).publishEvent(TaskChangedEvent.deleted(task));
         verify(dataResponse).responseData(204, "Task deleted successfully", null);
     }
 
@@ -206,4 +747,15 @@ public class TaskServiceUnitTest {
         verify(dataResponse).responseData(404, "Task not found", null);
     }
 
+    private static Tasks taskCreatedAt(String id, String createdAt) {
+        Tasks task = new Tasks();
+        task.setId(id);
+        task.setCreatedAt(Timestamp.from(Instant.parse(createdAt)));
+        return task;
+    }
+
+    private TaskServiceImpl writeBehindService(TaskWriteBehindQueue writeBehindQueue) {
+        return new TaskServiceImpl(dataResponse, tasksDao, archivedTasksDao, taskBatchWriter, validator, taskCache,
+                taskSearchIndex, taskStatistics, eventPublisher, readCoalescer, writeBehindQueue);
+    }
 }
@@ -0,0 +1,136 @@
+package com.core.hmcts;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.core.hmcts.event.TaskChangedEvent;
+import com.core.hmcts.model.dao.ReadWriteRoutingDataSource;
+import com.core.hmcts.model.dao.TasksDao;
+import com.core.hmcts.model.dto.TaskStatisticsDto;
+import com.core.hmcts.model.entity.Tasks;
+import com.core.hmcts.model.entity.Tasks.TaskStatus;
+import com.core.hmcts.service.TaskStatistics;
+
+public class TaskStatisticsTest {
+
+    private TasksDao tasksDao;
+
+    private TaskStatistics statistics;
+
+    @BeforeEach
+    void setup() {
+        tasksDao = mock(TasksDao.class);
+        statistics = new TaskStatistics(tasksDao, Clock.fixed(Instant.parse("2025-04-10T12:00:00Z"), ZoneOffset.UTC), false);
+    }
+
+    @Test
+    void events_MoveCountersWithoutQueryingDatabase() {
+        // Given
+        Tasks overdue = task("1", TaskStatus.PENDING, LocalDateTime.of(2025, 4, 1, 9, 0));
+        Tasks future = task("2", TaskStatus.PENDING, LocalDateTime.of(2025, 4, 20, 9, 0));
+
+        // When
+        statistics.onTaskChanged(TaskChangedEvent.created(overdue));
+        statistics.onTaskChanged(TaskChangedEvent.created(future));
+        future.setStatus(TaskStatus.COMPLETED);
+        statistics.onTaskChanged(TaskChangedEvent.updated(future, TaskStatus.PENDING));
+
+        // Then
+        TaskStatisticsDto snapshot = statistics.snapshot();
+        assertThat(snapshot.getTotal()).isEqualTo(2);
+        assertThat(snapshot.getByStatus()).containsEntry(TaskStatus.PENDING, 1L).containsEntry(TaskStatus.COMPLETED, 1L);
+        assertThat(snapshot.getOverdue()).isEqualTo(1);
+        assertThat(snapshot.getDueByDay()).containsEntry(LocalDate.of(2025, 4, 1), 1L).containsEntry(LocalDate.of(2025, 4, 20), 1L);
+
+        // When
+        overdue.setStatus(TaskStatus.COMPLETED);
+        statistics.onTaskChanged(TaskChangedEvent.updated(overdue, TaskStatus.PENDING));
+        statistics.onTaskChanged(TaskChangedEvent.deleted(future));
+
+        // Then
+        snapshot = statistics.snapshot();
+        assertThat(snapshot.getTotal()).isEqualTo(1);
+        assertThat(snapshot.getOverdue()).isZero();
+    }
+
+    @Test
+    void reconcile_PinsToPrimaryOnlyWhenReplicasCanLag() {
+        // Given
+        List<Boolean> pinned = new ArrayList<>();
+        when(tasksDao.countByStatusAndDueDay()).thenAnswer(invocation -> {
+            pinned.add(ReadWriteRoutingDataSource.isPinnedToPrimary());
+            return List.of();
+        });
+        Clock clock = Clock.fixed(Instant.parse("2025-04-10T12:00:00Z"), ZoneOffset.UTC);
+
+        // When
+        new TaskStatistics(tasksDao, clock, false).reconcile();
+        new TaskStatistics(tasksDao, clock, true).reconcile();
+
+        // Then
+        assertThat(pinned).containsExactly(false, true);
+        assertThat(ReadWriteRoutingDataSource.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    void reconcile_CorrectsDriftFromDatabase() {
+        // Given
+        statistics.onTaskChanged(TaskChangedEvent.created(task("1", TaskStatus.PENDING, LocalDateTime.of(2025, 4, 1, 9, 0))));
+        TasksDao.DueDayCount row = mock(TasksDao.DueDayCount.class);
+        when(row.getStatus()).thenReturn(TaskStatus.IN_PROGRESS);
+        when(row.getDueDay()).thenReturn(LocalDate.of(2025, 4, 2));
+        when(row.getTotal()).thenReturn(3L);
+        when(tasksDao.countByStatusAndDueDay()).thenReturn(List.of(row));
+
+        // When
+        statistics.reconcile();
+
+        // Then
+        TaskStatisticsDto snapshot = statistics.snapshot();
+        assertThat(snapshot.getByStatus()).containsEntry(TaskStatus.PENDING, 0L).containsEntry(TaskStatus.IN_PROGRESS, 3L);
+        assertThat(snapshot.getOverdue()).isEqualTo(3);
+        assertThat(snapshot.getDueByDay()).containsOnlyKeys(LocalDate.of(2025, 4, 2));
+    }
+
+    @Test
+    void reconcile_KeepsEventsAppliedWhileQueryRuns() {
+        // Given: a task created after the aggregate query took its snapshot but before it returned
+        TasksDao.DueDayCount row = mock(TasksDao.DueDayCount.class);
+        when(row.getStatus()).thenReturn(TaskStatus.PENDING);
+        when(row.getDueDay()).thenReturn(LocalDate.of(2025, 4, 2));
+        when(row.getTotal()).thenReturn(2L);
+        when(tasksDao.countByStatusAndDueDay()).thenAnswer(invocation -> {
+            statistics.onTaskChanged(TaskChangedEvent.created(task("3", TaskStatus.PENDING, LocalDateTime.of(2025, 4, 20, 9, 0))));
+            return List.of(row);
+        });
+
+        // When
+        statistics.reconcile();
+
+        // Then
+        TaskStatisticsDto snapshot = statistics.snapshot();
+        assertThat(snapshot.getTotal()).isEqualTo(3);
+        assertThat(snapshot.getDueByDay()).containsEntry(LocalDate.of(2025, 4, 2), 2L).containsEntry(LocalDate.of(2025, 4, 20), 1L);
+        assertThat(snapshot.getOverdue()).isEqualTo(2);
+    }
+
+    private static Tasks task(String id, TaskStatus status, LocalDateTime dueDate) {
+        Tasks task = new Tasks();
+        task.setId(id);
+        task.setStatus(status);
+        task.setDueDate(dueDate);
+        return task;
+    }
+}
@@ -0,0 +1,219 @@
+package com.core.hmcts;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.core.hmcts.event.TaskChangedEvent;
+import com.core.hmcts.model.entity.Tasks;
+import com.core.hmcts.model.entity.UuidV7Generator;
+import com.core.hmcts.service.TaskBatchWriter;
+import com.core.hmcts.service.TaskWriteBehindQueue;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class TaskWriteBehindQueueTest {
+
+    private TaskBatchWriter taskBatchWriter;
+
+    private ApplicationEventPublisher eventPublisher;
+
+    // Sizes are copied out because the writer reuses its batch list
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    private TaskWriteBehindQueue queue;
+
+    @TempDir
+    private Path spillDirectory;
+
+    @BeforeEach
+    void setup() {
+        taskBatchWriter = mock(TaskBatchWriter.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        doAnswer(invocation -> {
+            batchSizes.add(invocation.<List<Tasks>>getArgument(0).size());
+            return null;
+        }).when(taskBatchWriter).persistNew(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null && queue.isRunning()) {
+            queue.stop();
+        }
+    }
+
+    @Test
+    void fullBatch_IsFlushedWithoutWaitingForTheDelay() {
+        // Given
+        queue = start(100, 10, Duration.ofMinutes(1));
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertThat(queue.offer(task())).isTrue();
+        }
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> batchSizes.contains(10));
+    }
+
+    @Test
+    void partialBatch_IsFlushedAfterTheDelay() {
+        // Given
+        queue = start(100, 100, Duration.ofMillis(20));
+
+        // When
+        queue.offer(task());
+        queue.offer(task());
+        queue.offer(task());
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> batchSizes.stream().mapToInt(Integer::intValue).sum() == 3);
+        verify(eventPublisher, times(3)).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    void fullQueue_RejectsUntilDrained() {
+        // Given
+        queue = start(5, 100, Duration.ofMinutes(1));
+        for (int i = 0; i < 5; i++) {
+            assertThat(queue.offer(task())).isTrue();
+        }
+
+        // When & Then
+        assertThat(queue.offer(task())).isFalse();
+        assertThat(queue.size()).isEqualTo(5);
+    }
+
+    @Test
+    void stop_PersistsEverythingAccepted() {
+        // Given
+        queue = start(1_000, 100, Duration.ofMinutes(1));
+        for (int i = 0; i < 250; i++) {
+            queue.offer(task());
+        }
+
+        // When
+        queue.stop();
+
+        // Then
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(250);
+        assertThat(queue.size()).isZero();
+        assertThat(queue.offer(task())).isFalse();
+    }
+
+    @Test
+    void failingBatch_IsRetriedWithBackoffUntilTheDatabaseRecovers() {
+        // Given: the first two attempts hit a database outage
+        AtomicInteger attempts = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (attempts.incrementAndGet() <= 2) {
+                throw new DataAccessResourceFailureException("database down");
+            }
+            batchSizes.add(invocation.<List<Tasks>>getArgument(0).size());
+            return null;
+        }).when(taskBatchWriter).persistNew(any());
+        queue = start(100, 3, Duration.ofMinutes(1));
+
+        // When
+        queue.offer(task());
+        queue.offer(task());
+        queue.offer(task());
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> batchSizes.contains(3));
+        assertThat(attempts).hasValue(3);
+        verify(eventPublisher, times(3)).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    void outageOutlastingRetries_KeepsTasksQueuedAndSpillsThemAtShutdown() throws Exception {
+        // Given
+        doThrow(new DataAccessResourceFailureException("database down")).when(taskBatchWriter).persistNew(any());
+        queue = start(100, 2, Duration.ofMillis(10));
+        queue.offer(task());
+        queue.offer(task());
+        await().atMost(Duration.ofSeconds(5)).until(() -> queue.size() == 2 && attemptsSoFar() > 2);
+
+        // When
+        queue.stop();
+
+        // Then: nothing is published as created, and the next start picks the spilled tasks up
+        verify(eventPublisher, never()).publishEvent(any(TaskChangedEvent.class));
+        assertThat(Files.readAllLines(spillDirectory.resolve("spill.jsonl"))).hasSize(2);
+
+        doAnswer(invocation -> {
+            batchSizes.add(invocation.<List<Tasks>>getArgument(0).size());
+            return null;
+        }).when(taskBatchWriter).persistNew(any());
+        queue = start(100, 2, Duration.ofMillis(10));
+        await().atMost(Duration.ofSeconds(5)).until(() -> batchSizes.contains(2));
+        assertThat(spillDirectory.resolve("spill.jsonl")).doesNotExist();
+    }
+
+    @Test
+    void rowRejectedByTheDatabase_GoesToDeadLetterAndTheRestAreWritten() throws Exception {
+        // Given
+        Tasks duplicate = task();
+        doThrow(new DataIntegrityViolationException("duplicate id"))
+                .when(taskBatchWriter).persistNew(argThat(batch -> batch.contains(duplicate)));
+        queue = start(100, 3, Duration.ofMinutes(1));
+
+        // When
+        queue.offer(task());
+        queue.offer(duplicate);
+        queue.offer(task());
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> batchSizes.stream().mapToInt(Integer::intValue).sum() == 2);
+        await().atMost(Duration.ofSeconds(5)).until(() -> Files.exists(spillDirectory.resolve("dead-letter.jsonl")));
+        assertThat(Files.readAllLines(spillDirectory.resolve("dead-letter.jsonl")))
+                .singleElement().asString().contains(duplicate.getId());
+        verify(eventPublisher, times(2)).publishEvent(any(TaskChangedEvent.class));
+        assertThat(queue.size()).isZero();
+    }
+
+    private long attemptsSoFar() {
+        return mockingDetails(taskBatchWriter).getInvocations().size();
+    }
+
+    private TaskWriteBehindQueue start(int capacity, int batchSize, Duration maxDelay) {
+        TaskWriteBehindQueue writeBehindQueue = new TaskWriteBehindQueue(taskBatchWriter, eventPublisher,
+                new ObjectMapper().findAndRegisterModules(), capacity, batchSize, maxDelay,
+                3, Duration.ofMillis(1), Duration.ofMillis(10),
+                spillDirectory.resolve("spill.jsonl"), spillDirectory.resolve("dead-letter.jsonl"));
+        writeBehindQueue.start();
+        return writeBehindQueue;
+    }
+
+    private static Tasks task() {
+        Tasks task = new Tasks();
+        task.setId(UuidV7Generator.nextId());
+        task.setTitle("Queued task");
+        task.setDueDate(LocalDateTime.of(2030, 1, 1, 9, 0));
+        return task;
+    }
+}
@@ -0,0 +1,136 @@
+package com.core.hmcts;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.core.hmcts.model.dao.TasksDao;
+import com.core.hmcts.model.entity.Tasks;
+
+/**
+ * Platform threads against virtual threads for the same blocking JDBC workload. Every statement is
+ * delayed to stand in for a networked database, and the pool is smaller than the request concurrency
+ * so the limiter is exercised. Run with ./mvnw test -Pbenchmark -Dtest=VirtualThreadLoadBenchmarkTests
+ */
+@Tag("benchmark")
+public class VirtualThreadLoadBenchmarkTests {
+    private static final int SEEDED_TASKS = 500;
+    private static final int REQUESTS = 4_000;
+    private static final int CONCURRENCY = 400;
+    private static final int POOL_SIZE = 20;
+    private static final Duration STATEMENT_LATENCY = Duration.ofMillis(5);
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    @Test
+    void virtualThreads_ServeSameLoadWithFewerPlatformThreads() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        assertThat(platform.failed()).as("platform: %s", platform).isZero();
+        assertThat(virtual.ok() + virtual.rejected()).as("virtual: %s", virtual).isEqualTo(REQUESTS);
+        assertThat(virtual.peakThreads()).as("platform: %s, virtual: %s", platform, virtual).isLessThan(platform.peakThreads());
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(HmctsApplication.class)
+                .profiles(virtualThreads ? new String[] {"embedded", "virtual"} : new String[] {"embedded"})
+                .properties("server.port=0",
+                        "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "tasks.virtual-threads.permit-timeout=10s",
+                        "tasks.limiter.enabled=false")
+                .initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(new SlowStatements(STATEMENT_LATENCY)))
+                .run()) {
+            seed(context.getBean(TasksDao.class));
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+            // Warm up before measuring
+            fire(client, port, REQUESTS / 4);
+            threads.resetPeakThreadCount();
+            return fire(client, port, REQUESTS);
+        }
+    }
+
+    private Result fire(HttpClient client, int port, int requests) throws Exception {
+        AtomicInteger ok = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+
+        long start = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> workers = new ArrayList<>(CONCURRENCY);
+            for (int w = 0; w < CONCURRENCY; w++) {
+                workers.add(clients.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < requests; i = next.getAndIncrement()) {
+                        HttpRequest request = HttpRequest.newBuilder(
+                                URI.create("http://localhost:" + port + "/tasks/?page=" + (i % 20) + "&size=25")).build();
+                        long sent = System.nanoTime();
+                        try {
+                            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            if (status == 200) ok.incrementAndGet();
+                            else if (status == 503) rejected.incrementAndGet();
+                            else failed.incrementAndGet();
+                        } catch (Exception e) {
+                            failed.incrementAndGet();
+                        }
+                        latencies[i] = System.nanoTime() - sent;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        return new Result(ok.get(), rejected.get(), failed.get(), requests / (elapsed / 1e9),
+                latencies[requests / 2] / 1_000_000.0, latencies[(int) (requests * 0.99)] / 1_000_000.0,
+                threads.getPeakThreadCount());
+    }
+
+    private static void seed(TasksDao tasksDao) {
+        List<Tasks> tasks = new ArrayList<>(SEEDED_TASKS);
+        for (int i = 0; i < SEEDED_TASKS; i++) {
+            Tasks task = new Tasks();
+            task.setTitle("Task " + i);
+            task.setDescription("Load task " + i);
+            task.setDueDate(LocalDateTime.of(2030, 1, 1, 9, 0));
+            tasks.add(task);
+        }
+        tasksDao.saveAll(tasks);
+    }
+
+    private record Result(int ok, int rejected, int failed, double throughput, double p50Millis, double p99Millis,
+                          int peakThreads) {
+        @Override
+        public String toString() {
+            return String.format("%.0f req/s, p50 %.1f ms, p99 %.1f ms, %d ok, %d rejected, %d failed, peak %d platform threads",
+                    throughput, p50Millis, p99Millis, ok, rejected, failed, peakThreads);
+        }
+    }
+}